@@ -0,0 +1,54 @@
+package com.example.personalfinancetracker.benchmark;
+
+import com.example.personalfinancetracker.PersonalFinanceTrackerApplication;
+import com.example.personalfinancetracker.util.SyntheticLedgerGenerator;
+import com.example.personalfinancetracker.util.SyntheticLedgerLoader;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+
+/**
+ * Starts the application without a web server for benchmarks that need real beans, and seeds its database with a
+ * synthetic ledger through {@link SyntheticLedgerLoader}, so that 10^7 rows take minutes rather than hours through
+ * the service.
+ */
+public final class BenchmarkApplication {
+
+    /** First day of the seeded ledger; rows are spread over {@link #LEDGER_YEARS} years from here. */
+    public static final LocalDate LEDGER_START = LocalDate.of(2022, 1, 1);
+    public static final int LEDGER_YEARS = 3;
+    public static final int LEDGER_DAYS = LEDGER_YEARS * 365;
+    public static final int ACCOUNTS = 1000;
+
+    private static final long SEED = 42;
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * The database lives in a file under {@code target/jmh-h2}, so the largest ledgers do not have to fit in the
+     * benchmark heap. The schema is recreated on start and dropped on close. Hibernate's query cache is off: with
+     * {@link #ACCOUNTS} accounts a run repeats the same search parameters, which would then be answered from cache.
+     */
+    public static ConfigurableApplicationContext start(String databaseName) {
+        return new SpringApplicationBuilder(PersonalFinanceTrackerApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run("--spring.datasource.url=jdbc:h2:file:./target/jmh-h2/" + databaseName + ";CACHE_SIZE=524288",
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.example.personalfinancetracker=WARN");
+    }
+
+    /**
+     * Loads {@code rows} transactions of a seeded {@link SyntheticLedgerGenerator} ledger over {@link #ACCOUNTS}
+     * accounts, together with the balance checkpoints and rollups the write paths would have kept.
+     */
+    public static void seed(ConfigurableApplicationContext context, int rows) {
+        SyntheticLedgerLoader.load(context, new SyntheticLedgerGenerator(SEED, ACCOUNTS, LEDGER_START, LEDGER_YEARS), rows);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.personalfinancetracker.benchmark;
+
+import com.example.personalfinancetracker.domain.Money;
+import com.example.personalfinancetracker.domain.MoneyAccumulator;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sums a day's worth of amounts the way the aggregation paths do: with {@link BigDecimal#add}, which allocates a
+ * result per addition, and with {@link MoneyAccumulator} over minor units. Run with {@code -prof gc} (the profile
+ * default) to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyAggregationBenchmark {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    @Param({"1000", "100000"})
+    private int rows;
+
+    private BigDecimal[] amounts;
+    private long[] minorUnits;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        amounts = new BigDecimal[rows];
+        minorUnits = new long[rows];
+        for (int i = 0; i < rows; i++) {
+            amounts[i] = BigDecimal.valueOf(random.nextLong(-500_000, 500_000), 2);
+            minorUnits[i] = Money.minorUnitsOf(amounts[i], EUR);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalSum() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal amount : amounts) {
+            total = total.add(amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money accumulatorFromBigDecimal() {
+        MoneyAccumulator total = new MoneyAccumulator(EUR);
+        for (BigDecimal amount : amounts) {
+            total.add(amount);
+        }
+        return total.toMoney();
+    }
+
+    @Benchmark
+    public Money accumulatorFromMinorUnits() {
+        MoneyAccumulator total = new MoneyAccumulator(EUR);
+        for (long amount : minorUnits) {
+            total.add(amount);
+        }
+        return total.toMoney();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.personalfinancetracker.benchmark;
+
+import com.example.personalfinancetracker.cache.DescriptionTrigramIndex;
+import com.example.personalfinancetracker.domain.Transaction;
+import com.example.personalfinancetracker.repository.impl.CustomTransactionRepositoryImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds a search query through {@code findTransactionsByCriteria}, the per-request work that happens before any
+ * SQL is generated. The entity manager hands out queries that return no rows, so Hibernate never translates or
+ * runs them. {@code filters=account} sets only the account; {@code filters=all} sets every criterion, including
+ * the description, which consults the trigram index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PredicateBuildingBenchmark {
+
+    private static final Pageable PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Param({"account", "all"})
+    private String filters;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private CustomTransactionRepositoryImpl repository;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("predicates");
+        entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+        repository = new CustomTransactionRepositoryImpl(withoutResults(entityManager),
+                context.getBean(DescriptionTrigramIndex.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        context.close();
+    }
+
+    @Benchmark
+    public Slice<Transaction> buildPredicates() {
+        if (filters.equals("account")) {
+            return repository.findTransactionsByCriteria("Aylin", null, null, null, null, null, null, PAGE);
+        }
+        return repository.findTransactionsByCriteria("Aylin", BigDecimal.valueOf(-100), BigDecimal.valueOf(100),
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31), "Food", "lunch", PAGE);
+    }
+
+    /**
+     * {@code delegate} with {@code createQuery} answering a query whose setters return it and whose results are empty.
+     */
+    private static EntityManager withoutResults(EntityManager delegate) {
+        TypedQuery<?> emptyQuery = (TypedQuery<?>) Proxy.newProxyInstance(TypedQuery.class.getClassLoader(),
+                new Class<?>[]{TypedQuery.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getResultList" -> List.of();
+                    case "getResultStream" -> List.of().stream();
+                    default -> method.getReturnType().isInstance(proxy) ? proxy : null;
+                });
+        return (EntityManager) Proxy.newProxyInstance(EntityManager.class.getClassLoader(),
+                new Class<?>[]{EntityManager.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("createQuery")) {
+                        return emptyQuery;
+                    }
+                    try {
+                        return method.invoke(delegate, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
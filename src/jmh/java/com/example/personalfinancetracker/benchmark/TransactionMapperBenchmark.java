@@ -0,0 +1,56 @@
+package com.example.personalfinancetracker.benchmark;
+
+import com.example.personalfinancetracker.domain.Transaction;
+import com.example.personalfinancetracker.dto.TransactionRequestDTO;
+import com.example.personalfinancetracker.dto.TransactionResponseDTO;
+import com.example.personalfinancetracker.mapper.TransactionMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping one row each way, which every search page and write pays per transaction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionMapperBenchmark {
+
+    private final TransactionMapper mapper = new TransactionMapper();
+
+    private Transaction entity;
+    private TransactionRequestDTO request;
+
+    @Setup
+    public void setUp() {
+        entity = new Transaction();
+        entity.setId(42L);
+        entity.setAccountName("Aylin");
+        entity.setAmount(new BigDecimal("-12.50"));
+        entity.setCategory("Food");
+        entity.setDescription("Lunch");
+        entity.setCreatedAt(LocalDateTime.of(2025, 2, 24, 12, 30));
+        entity.setVersion(0L);
+
+        request = new TransactionRequestDTO();
+        request.setAccountName("Aylin");
+        request.setAmount(new BigDecimal("-12.50"));
+        request.setCategory("Food");
+        request.setDescription("Lunch");
+    }
+
+    @Benchmark
+    public TransactionResponseDTO toDTO() {
+        return mapper.toDTO(entity);
+    }
+
+    @Benchmark
+    public Transaction toEntity() {
+        return mapper.toEntity(request);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.personalfinancetracker.benchmark;
+
+import com.example.personalfinancetracker.cache.BalanceCacheEvictor;
+import com.example.personalfinancetracker.domain.TotalsMode;
+import com.example.personalfinancetracker.dto.PagedTransactionResponseDTO;
+import com.example.personalfinancetracker.dto.TransactionSearchCriteriaDTO;
+import com.example.personalfinancetracker.service.TransactionService;
+import com.example.personalfinancetracker.util.SyntheticLedgerGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.personalfinancetracker.benchmark.BenchmarkApplication.*;
+
+/**
+ * End-to-end search and balance lookups through {@link TransactionService} against an H2 ledger seeded by
+ * {@link BenchmarkApplication#seed}. Each invocation picks another account and date, the query cache is off and the
+ * balance cache is cleared before every lookup, so the numbers are for the query path rather than cache hits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TransactionQueryBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int WINDOW_DAYS = 90;
+
+    @Param({"100000", "1000000", "10000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private Cache balanceCache;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("query-" + rows);
+        seed(context, rows);
+        transactionService = context.getBean(TransactionService.class);
+        balanceCache = context.getBean(CacheManager.class).getCache(BalanceCacheEvictor.BALANCE_CACHE);
+        random = new SplittableRandom(42);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /** One page of an account's transactions in a 90-day window, newest first, with exact totals. */
+    @Benchmark
+    public PagedTransactionResponseDTO searchAccountWindow() {
+        LocalDate from = randomDate(LEDGER_DAYS - WINDOW_DAYS);
+        TransactionSearchCriteriaDTO criteria = new TransactionSearchCriteriaDTO();
+        criteria.setAccountName(randomAccount());
+        criteria.setFromDate(from);
+        criteria.setToDate(from.plusDays(WINDOW_DAYS));
+        return transactionService.searchTransactions(criteria, 0, PAGE_SIZE, "createdAt", "desc", null, TotalsMode.EXACT);
+    }
+
+    /** First page of an account and category filter without aggregates, the cheapest list request. */
+    @Benchmark
+    public PagedTransactionResponseDTO searchAccountCategory() {
+        TransactionSearchCriteriaDTO criteria = new TransactionSearchCriteriaDTO();
+        criteria.setAccountName(randomAccount());
+        criteria.setCategory(SyntheticLedgerGenerator.CATEGORIES.get(
+                random.nextInt(SyntheticLedgerGenerator.CATEGORIES.size())));
+        return transactionService.searchTransactions(criteria, 0, PAGE_SIZE, "createdAt", "desc", null, TotalsMode.NONE);
+    }
+
+    @Benchmark
+    public BigDecimal calculateBalance() {
+        balanceCache.clear();
+        return transactionService.calculateBalance(randomAccount(), randomDate(LEDGER_DAYS));
+    }
+
+    private String randomAccount() {
+        return SyntheticLedgerGenerator.accountName(random.nextInt(ACCOUNTS));
+    }
+
+    private LocalDate randomDate(int days) {
+        return LEDGER_START.plusDays(random.nextInt(days));
+    }
+}
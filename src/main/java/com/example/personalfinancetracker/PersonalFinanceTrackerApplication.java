@@ -2,10 +2,12 @@ package com.example.personalfinancetracker;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.cache.annotation.EnableCaching;
 
 @EnableCaching
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class PersonalFinanceTrackerApplication {
 
 	public static void main(String[] args) {
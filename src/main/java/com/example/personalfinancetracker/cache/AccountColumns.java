@@ -0,0 +1,202 @@
+package com.example.personalfinancetracker.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Immutable column arrays of one account's transactions, ordered by posting day: epoch day, amount in minor units
+ * and category dictionary id. Day ranges are located by binary search and scanned with plain array loops; ranges
+ * longer than the parallel threshold are split across the common fork-join pool.
+ */
+public final class AccountColumns {
+
+    /** Heap used per row by the three columns. */
+    static final int BYTES_PER_ROW = Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    /** Category filter value that matches every row. */
+    public static final int ANY_CATEGORY = -1;
+
+    /** Category id stored for uncategorised rows; no dictionary id or filter value equals it. */
+    public static final int NO_CATEGORY = -2;
+
+    private final int[] epochDays;
+    private final long[] amounts;
+    private final int[] categoryIds;
+
+    private AccountColumns(int[] epochDays, long[] amounts, int[] categoryIds) {
+        this.epochDays = epochDays;
+        this.amounts = amounts;
+        this.categoryIds = categoryIds;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return epochDays.length;
+    }
+
+    public long bytes() {
+        return (long) epochDays.length * BYTES_PER_ROW;
+    }
+
+    /**
+     * Count and sum of the rows posted from {@code fromDay} to {@code toDay} inclusive whose amount lies between
+     * {@code minAmount} and {@code maxAmount} inclusive and whose category is {@code categoryId}, or any category
+     * for {@link #ANY_CATEGORY}.
+     */
+    public Totals totals(int fromDay, int toDay, long minAmount, long maxAmount, int categoryId, int parallelThreshold) {
+        int from = lowerBound(fromDay);
+        int to = lowerBound(toDay == Integer.MAX_VALUE ? toDay : toDay + 1);
+        if (from >= to) {
+            return Totals.EMPTY;
+        }
+        RangeTotals task = new RangeTotals(from, to, minAmount, maxAmount, categoryId, Math.max(1, parallelThreshold));
+        return to - from > parallelThreshold ? ForkJoinPool.commonPool().invoke(task) : task.compute();
+    }
+
+    /**
+     * Sum of all rows posted on or before {@code day}.
+     */
+    public long sumThrough(int day, int parallelThreshold) {
+        return totals(Integer.MIN_VALUE, day, Long.MIN_VALUE, Long.MAX_VALUE, ANY_CATEGORY, parallelThreshold).sum();
+    }
+
+    /**
+     * Sum per category id of the rows posted from {@code fromDay} to {@code toDay} inclusive. Uncategorised rows are
+     * summed under {@link #NO_CATEGORY}.
+     */
+    public Map<Integer, Long> sumByCategory(int fromDay, int toDay) {
+        int from = lowerBound(fromDay);
+        int to = lowerBound(toDay == Integer.MAX_VALUE ? toDay : toDay + 1);
+        Map<Integer, long[]> sums = new HashMap<>();
+        for (int i = from; i < to; i++) {
+            long[] sum = sums.computeIfAbsent(categoryIds[i], id -> new long[1]);
+            sum[0] = Math.addExact(sum[0], amounts[i]);
+        }
+        Map<Integer, Long> result = new HashMap<>(sums.size() * 2);
+        sums.forEach((id, sum) -> result.put(id, sum[0]));
+        return result;
+    }
+
+    /**
+     * The {@code limit} categories with the largest absolute sum from {@code fromDay} to {@code toDay} inclusive,
+     * largest first.
+     */
+    public List<Map.Entry<Integer, Long>> topCategories(int fromDay, int toDay, int limit) {
+        List<Map.Entry<Integer, Long>> entries = new ArrayList<>(sumByCategory(fromDay, toDay).entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<Integer, Long> entry) -> Math.abs(entry.getValue())).reversed()
+                .thenComparing(Map.Entry::getKey));
+        return entries.subList(0, Math.min(limit, entries.size()));
+    }
+
+    /** Index of the first row posted on or after {@code day}. */
+    private int lowerBound(int day) {
+        int low = 0;
+        int high = epochDays.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochDays[mid] < day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public record Totals(long count, long sum) {
+        static final Totals EMPTY = new Totals(0, 0);
+    }
+
+    private final class RangeTotals extends RecursiveTask<Totals> {
+        private final int from;
+        private final int to;
+        private final long minAmount;
+        private final long maxAmount;
+        private final int categoryId;
+        private final int threshold;
+
+        RangeTotals(int from, int to, long minAmount, long maxAmount, int categoryId, int threshold) {
+            this.from = from;
+            this.to = to;
+            this.minAmount = minAmount;
+            this.maxAmount = maxAmount;
+            this.categoryId = categoryId;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (to - from > threshold) {
+                int mid = (from + to) >>> 1;
+                RangeTotals left = new RangeTotals(from, mid, minAmount, maxAmount, categoryId, threshold);
+                left.fork();
+                Totals right = new RangeTotals(mid, to, minAmount, maxAmount, categoryId, threshold).compute();
+                Totals joined = left.join();
+                return new Totals(joined.count() + right.count(), Math.addExact(joined.sum(), right.sum()));
+            }
+            long count = 0;
+            long sum = 0;
+            boolean anyCategory = categoryId == ANY_CATEGORY;
+            for (int i = from; i < to; i++) {
+                long amount = amounts[i];
+                if (amount >= minAmount && amount <= maxAmount && (anyCategory || categoryIds[i] == categoryId)) {
+                    count++;
+                    sum = Math.addExact(sum, amount);
+                }
+            }
+            return new Totals(count, sum);
+        }
+    }
+
+    /**
+     * Collects rows in posting order; out-of-order rows are sorted once by {@link #build()}.
+     */
+    public static final class Builder {
+        private int[] epochDays = new int[16];
+        private long[] amounts = new long[16];
+        private int[] categoryIds = new int[16];
+        private int size;
+        private boolean sorted = true;
+
+        public Builder add(int epochDay, long amount, int categoryId) {
+            if (size == epochDays.length) {
+                int capacity = size * 2;
+                epochDays = Arrays.copyOf(epochDays, capacity);
+                amounts = Arrays.copyOf(amounts, capacity);
+                categoryIds = Arrays.copyOf(categoryIds, capacity);
+            }
+            sorted &= size == 0 || epochDays[size - 1] <= epochDay;
+            epochDays[size] = epochDay;
+            amounts[size] = amount;
+            categoryIds[size] = categoryId;
+            size++;
+            return this;
+        }
+
+        public AccountColumns build() {
+            int[] days = Arrays.copyOf(epochDays, size);
+            long[] amountColumn = Arrays.copyOf(amounts, size);
+            int[] categoryColumn = Arrays.copyOf(categoryIds, size);
+            if (!sorted) {
+                Integer[] order = new Integer[size];
+                Arrays.setAll(order, i -> i);
+                Arrays.sort(order, Comparator.comparingInt(i -> epochDays[i]));
+                for (int i = 0; i < size; i++) {
+                    days[i] = epochDays[order[i]];
+                    amountColumn[i] = amounts[order[i]];
+                    categoryColumn[i] = categoryIds[order[i]];
+                }
+            }
+            return new AccountColumns(days, amountColumn, categoryColumn);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.personalfinancetracker.cache;
+
+import com.example.personalfinancetracker.config.FinanceCacheProperties;
+import com.example.personalfinancetracker.repository.TransactionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of account names that have transactions. {@link #mightContain(String)} never answers {@code false}
+ * for a known account, so a negative answer lets callers reject unknown accounts without a query. Names are added
+ * on insert by {@link TransactionIndexListener} and loaded from the database once the application is ready; until
+ * then every name is reported as possibly present. Names are never removed, deleted accounts stay false positives.
+ */
+@Component
+public class AccountNameFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountNameFilter.class);
+
+    private final TransactionRepository transactionRepository;
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private volatile boolean loaded;
+
+    public AccountNameFilter(@Lazy TransactionRepository transactionRepository, FinanceCacheProperties cacheProperties) {
+        this.transactionRepository = transactionRepository;
+        FinanceCacheProperties.AccountFilter settings = cacheProperties.getAccountFilter();
+        int expected = Math.max(1, settings.getExpectedAccounts());
+        double rate = settings.getFalsePositiveRate();
+        if (rate <= 0 || rate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1: " + rate);
+        }
+        long words = Math.max(1, (long) Math.ceil(-expected * Math.log(rate) / (Math.log(2) * Math.log(2)) / Long.SIZE));
+        this.bits = new AtomicLongArray(Math.toIntExact(words));
+        this.bitCount = words * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expected * Math.log(2)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<String> accountNames = transactionRepository.findDistinctAccountNames();
+        accountNames.forEach(this::add);
+        loaded = true;
+        log.info("Account name filter loaded with {} accounts ({} bits, {} hashes)",
+                accountNames.size(), bitCount, hashCount);
+    }
+
+    public void add(String accountName) {
+        if (accountName == null) {
+            return;
+        }
+        long hash = hash(accountName);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = Math.floorMod(h1 + (long) i * h2, bitCount);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    public boolean mightContain(String accountName) {
+        if (!loaded) {
+            return true;
+        }
+        long hash = hash(accountName);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = Math.floorMod(h1 + (long) i * h2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-16 code units, finished with the MurmurHash3 mixer to spread the bits.
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
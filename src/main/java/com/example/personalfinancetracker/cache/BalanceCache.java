@@ -0,0 +1,129 @@
+package com.example.personalfinancetracker.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * {@code balanceCache} with an index of the cached dates of every account, so {@link #evictFrom(String, LocalDate)}
+ * touches only the entries of one account from one date on instead of scanning every key. A date is indexed after
+ * its entry is stored and unindexed before it is evicted, so no entry is ever cached without being indexed; dates
+ * of entries dropped by size or expiry are unindexed by Caffeine's eviction listener.
+ */
+public class BalanceCache extends CaffeineCache {
+
+    private final ConcurrentMap<String, NavigableSet<LocalDate>> cachedDates;
+
+    public BalanceCache(Caffeine<Object, Object> builder, boolean allowNullValues) {
+        this(builder, allowNullValues, new ConcurrentHashMap<>());
+    }
+
+    private BalanceCache(Caffeine<Object, Object> builder, boolean allowNullValues,
+                         ConcurrentMap<String, NavigableSet<LocalDate>> cachedDates) {
+        super(BalanceCacheEvictor.BALANCE_CACHE,
+                builder.evictionListener((key, value, cause) -> unindex(cachedDates, key)).build(),
+                allowNullValues);
+        this.cachedDates = cachedDates;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        index(key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = super.putIfAbsent(key, value);
+        index(key);
+        return existing;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        T value = super.get(key, valueLoader);
+        index(key);
+        return value;
+    }
+
+    @Override
+    public void clear() {
+        cachedDates.clear();
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        cachedDates.clear();
+        return super.invalidate();
+    }
+
+    /**
+     * Evicts the cached balances of {@code accountName} for {@code fromDate} and every later date.
+     *
+     * @return the number of dates evicted
+     */
+    public int evictFrom(String accountName, LocalDate fromDate) {
+        NavigableSet<LocalDate> dates = cachedDates.get(accountName);
+        if (dates == null) {
+            return 0;
+        }
+        int evicted = 0;
+        for (Iterator<LocalDate> iterator = dates.tailSet(fromDate, true).iterator(); iterator.hasNext(); ) {
+            LocalDate date = iterator.next();
+            iterator.remove();
+            super.evict(BalanceCacheEvictor.key(accountName, date));
+            evicted++;
+        }
+        cachedDates.computeIfPresent(accountName, (name, remaining) -> remaining.isEmpty() ? null : remaining);
+        return evicted;
+    }
+
+    private void index(Object key) {
+        int separator = separatorOf(key);
+        LocalDate date = dateOf(key, separator);
+        if (date == null) {
+            return;
+        }
+        cachedDates.compute(((String) key).substring(0, separator), (name, dates) -> {
+            NavigableSet<LocalDate> indexed = dates != null ? dates : new ConcurrentSkipListSet<>();
+            indexed.add(date);
+            return indexed;
+        });
+    }
+
+    private static void unindex(ConcurrentMap<String, NavigableSet<LocalDate>> cachedDates, Object key) {
+        int separator = separatorOf(key);
+        LocalDate date = dateOf(key, separator);
+        if (date == null) {
+            return;
+        }
+        cachedDates.computeIfPresent(((String) key).substring(0, separator), (name, dates) -> {
+            dates.remove(date);
+            return dates.isEmpty() ? null : dates;
+        });
+    }
+
+    private static int separatorOf(Object key) {
+        return key instanceof String value ? value.lastIndexOf(BalanceCacheEvictor.KEY_SEPARATOR) : -1;
+    }
+
+    private static LocalDate dateOf(Object key, int separator) {
+        if (separator < 0) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(((String) key).substring(separator + 1));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
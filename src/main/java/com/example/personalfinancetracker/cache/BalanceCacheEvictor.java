@@ -0,0 +1,64 @@
+package com.example.personalfinancetracker.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+
+/**
+ * Evicts {@code balanceCache} entries of a single account instead of clearing the whole cache.
+ * Keys have the form {@code <accountName>_<yyyy-MM-dd>}, see {@link #key(String, LocalDate)}.
+ */
+@Component
+@RequiredArgsConstructor
+public class BalanceCacheEvictor {
+
+    public static final String BALANCE_CACHE = "balanceCache";
+
+    static final char KEY_SEPARATOR = '_';
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceCacheEvictor.class);
+
+    private final CacheManager cacheManager;
+
+    public static String key(String accountName, LocalDate date) {
+        return accountName + KEY_SEPARATOR + date;
+    }
+
+    /**
+     * Drops the cached balances of {@code accountName} for {@code fromDate} and every later date.
+     * Inside a transaction the eviction runs after commit, so readers cannot re-cache uncommitted state.
+     */
+    public void evictFrom(String accountName, LocalDate fromDate) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(accountName, fromDate);
+                }
+            });
+        } else {
+            evictNow(accountName, fromDate);
+        }
+    }
+
+    private void evictNow(String accountName, LocalDate fromDate) {
+        Cache cache = cacheManager.getCache(BALANCE_CACHE);
+        if (cache == null) {
+            return;
+        }
+        if (!(cache instanceof BalanceCache balanceCache)) {
+            log.warn("Cannot evict single accounts from {} of type {}, clearing it", BALANCE_CACHE, cache.getClass());
+            cache.clear();
+            return;
+        }
+        int evicted = balanceCache.evictFrom(accountName, fromDate);
+        log.debug("Evicted {} cached balances for account: {} from date: {}", evicted, accountName, fromDate);
+    }
+}
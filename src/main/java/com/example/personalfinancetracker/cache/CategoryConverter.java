@@ -0,0 +1,28 @@
+package com.example.personalfinancetracker.cache;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores the category of a transaction as its dictionary id. Only looks names up; {@link NameDictionaryListener}
+ * registers new names before the row is written.
+ */
+@Component
+@Converter
+@RequiredArgsConstructor
+public class CategoryConverter implements AttributeConverter<String, Integer> {
+
+    private final NameDictionary nameDictionary;
+
+    @Override
+    public Integer convertToDatabaseColumn(String name) {
+        return nameDictionary.idOf(NameDictionary.Kind.CATEGORY, name);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer id) {
+        return nameDictionary.nameOf(NameDictionary.Kind.CATEGORY, id);
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.personalfinancetracker.cache;
+
+import com.example.personalfinancetracker.config.FinanceAnalyticsProperties;
+import com.example.personalfinancetracker.config.FinanceMoneyProperties;
+import com.example.personalfinancetracker.domain.Money;
+import com.example.personalfinancetracker.domain.TransactionTotals;
+import com.example.personalfinancetracker.repository.TransactionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Optional in-memory analytics over {@link AccountColumns}, enabled with {@code finance.analytics.enabled}. An
+ * account's columns are loaded on first use in the caller's transaction and kept in an LRU map bounded by
+ * {@code finance.analytics.memory-budget}; accounts larger than the whole budget are not kept and their queries
+ * fall back to SQL. Every write drops the account's columns after commit, from {@link TransactionIndexListener} for
+ * the written account and from {@code TransactionService} for the previous account of a moved transaction. A load
+ * that overlapped a write is used once but not kept, so cached columns never miss a committed row. Callers must not read through the engine
+ * inside a transaction that has written to the same account.
+ */
+@Component
+public class ColumnarAnalyticsEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnarAnalyticsEngine.class);
+
+    private final TransactionRepository transactionRepository;
+    private final NameDictionary nameDictionary;
+    private final FinanceAnalyticsProperties analyticsProperties;
+    private final FinanceMoneyProperties moneyProperties;
+    private final Map<String, AccountColumns> accounts = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+    private long bytes;
+
+    public ColumnarAnalyticsEngine(@Lazy TransactionRepository transactionRepository, NameDictionary nameDictionary,
+                                   FinanceAnalyticsProperties analyticsProperties,
+                                   FinanceMoneyProperties moneyProperties) {
+        this.transactionRepository = transactionRepository;
+        this.nameDictionary = nameDictionary;
+        this.analyticsProperties = analyticsProperties;
+        this.moneyProperties = moneyProperties;
+    }
+
+    public boolean isEnabled() {
+        return analyticsProperties.isEnabled();
+    }
+
+    /**
+     * Balance of {@code accountName} at the end of {@code date}, or empty when the engine is disabled or the
+     * account does not fit the memory budget.
+     */
+    public Optional<BigDecimal> balanceAsOf(String accountName, LocalDate date) {
+        return columns(accountName).map(columns -> toAmount(
+                columns.sumThrough((int) date.toEpochDay(), analyticsProperties.getParallelThreshold())));
+    }
+
+    /**
+     * Count and sum of an account's transactions matching the search criteria other than description, with the
+     * same inclusive bounds as the SQL search.
+     */
+    public Optional<TransactionTotals> totals(String accountName, BigDecimal minAmount, BigDecimal maxAmount,
+                                              LocalDate fromDate, LocalDate toDate, String category) {
+        return columns(accountName).map(columns -> {
+            int scale = scale();
+            AccountColumns.Totals totals = columns.totals(
+                    fromDate != null ? (int) fromDate.toEpochDay() : Integer.MIN_VALUE,
+                    toDate != null ? (int) toDate.toEpochDay() : Integer.MAX_VALUE,
+                    minAmount != null ? minorUnits(minAmount, scale, RoundingMode.CEILING) : Long.MIN_VALUE,
+                    maxAmount != null ? minorUnits(maxAmount, scale, RoundingMode.FLOOR) : Long.MAX_VALUE,
+                    category != null ? nameDictionary.idOf(NameDictionary.Kind.CATEGORY, category) : AccountColumns.ANY_CATEGORY,
+                    analyticsProperties.getParallelThreshold());
+            return new TransactionTotals(totals.count(), toAmount(totals.sum()));
+        });
+    }
+
+    /**
+     * Sum per category name of an account's transactions from {@code fromDate} to {@code toDate} inclusive.
+     * Uncategorised transactions are summed under a {@code null} name.
+     */
+    public Optional<Map<String, BigDecimal>> categoryTotals(String accountName, LocalDate fromDate, LocalDate toDate) {
+        return columns(accountName).map(columns -> {
+            Map<String, BigDecimal> totals = new LinkedHashMap<>();
+            columns.sumByCategory((int) fromDate.toEpochDay(), (int) toDate.toEpochDay())
+                    .forEach((id, sum) -> totals.put(categoryName(id), toAmount(sum)));
+            return totals;
+        });
+    }
+
+    /**
+     * The {@code limit} categories of an account with the largest absolute sum in the range, largest first.
+     */
+    public Optional<Map<String, BigDecimal>> topCategories(String accountName, LocalDate fromDate, LocalDate toDate,
+                                                           int limit) {
+        return columns(accountName).map(columns -> {
+            Map<String, BigDecimal> top = new LinkedHashMap<>();
+            List<Map.Entry<Integer, Long>> entries = columns.topCategories(
+                    (int) fromDate.toEpochDay(), (int) toDate.toEpochDay(), limit);
+            entries.forEach(entry -> top.put(categoryName(entry.getKey()), toAmount(entry.getValue())));
+            return top;
+        });
+    }
+
+    /**
+     * Drops the columns of {@code accountName}. Inside a transaction the eviction runs after commit.
+     */
+    public void invalidate(String accountName) {
+        if (!isEnabled()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(accountName);
+                }
+            });
+        } else {
+            invalidateNow(accountName);
+        }
+    }
+
+    private Optional<AccountColumns> columns(String accountName) {
+        if (!isEnabled() || accountName == null) {
+            return Optional.empty();
+        }
+        synchronized (accounts) {
+            AccountColumns cached = accounts.get(accountName);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+        long generation = generations.getOrDefault(accountName, 0L);
+        AccountColumns loaded = load(accountName);
+        long budget = analyticsProperties.getMemoryBudget().toBytes();
+        if (loaded.bytes() > budget) {
+            log.debug("Columns of account {} need {} bytes, over the budget of {}", accountName, loaded.bytes(), budget);
+            return Optional.empty();
+        }
+        synchronized (accounts) {
+            if (generations.getOrDefault(accountName, 0L) == generation && !accounts.containsKey(accountName)) {
+                accounts.put(accountName, loaded);
+                bytes += loaded.bytes();
+                evictOverBudget(budget);
+            }
+        }
+        return Optional.of(loaded);
+    }
+
+    private AccountColumns load(String accountName) {
+        AccountColumns.Builder builder = AccountColumns.builder();
+        Currency currency = moneyProperties.getCurrency();
+        try (Stream<Object[]> rows = transactionRepository.streamColumnsForAccount(accountName)) {
+            rows.forEach(row -> builder.add(
+                    (int) ((LocalDateTime) row[0]).toLocalDate().toEpochDay(),
+                    Money.minorUnitsOf((BigDecimal) row[1], currency),
+                    row[2] != null
+                            ? nameDictionary.idOf(NameDictionary.Kind.CATEGORY, (String) row[2])
+                            : AccountColumns.NO_CATEGORY));
+        }
+        AccountColumns columns = builder.build();
+        log.debug("Loaded {} rows of account {} into columns", columns.size(), accountName);
+        return columns;
+    }
+
+    private void evictOverBudget(long budget) {
+        Iterator<Map.Entry<String, AccountColumns>> eldest = accounts.entrySet().iterator();
+        while (bytes > budget && eldest.hasNext()) {
+            Map.Entry<String, AccountColumns> entry = eldest.next();
+            bytes -= entry.getValue().bytes();
+            eldest.remove();
+            log.debug("Evicted columns of account {} to stay within the memory budget", entry.getKey());
+        }
+    }
+
+    private void invalidateNow(String accountName) {
+        synchronized (accounts) {
+            generations.merge(accountName, 1L, Long::sum);
+            AccountColumns removed = accounts.remove(accountName);
+            if (removed != null) {
+                bytes -= removed.bytes();
+            }
+        }
+    }
+
+    private String categoryName(int id) {
+        return id != AccountColumns.NO_CATEGORY ? nameDictionary.nameOf(NameDictionary.Kind.CATEGORY, id) : null;
+    }
+
+    private BigDecimal toAmount(long minorUnits) {
+        return new Money(minorUnits, moneyProperties.getCurrency()).toBigDecimal();
+    }
+
+    private int scale() {
+        return moneyProperties.getCurrency().getDefaultFractionDigits();
+    }
+
+    /** Amount bounds are rounded inwards, so a bound between two minor units keeps the same rows as in SQL. */
+    private static long minorUnits(BigDecimal bound, int scale, RoundingMode rounding) {
+        return bound.setScale(scale, rounding).unscaledValue().longValueExact();
+    }
+}
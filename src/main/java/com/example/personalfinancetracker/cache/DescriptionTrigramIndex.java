@@ -0,0 +1,239 @@
+package com.example.personalfinancetracker.cache;
+
+import com.example.personalfinancetracker.config.FinanceSearchProperties;
+import com.example.personalfinancetracker.repository.TransactionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Inverted index from lower-case description trigrams to transaction ids, used to narrow {@code description}
+ * searches before the {@code LIKE} predicate runs. Candidate sets are a superset of the real matches: ids are added
+ * as soon as a row is written, removed only after a delete commits, and descriptions that are not plain ASCII are
+ * always candidates, since their lower-case form may differ between Java and the database. The {@code LIKE}
+ * predicate stays in the query, so results are the same as without the index. Updated descriptions keep their old
+ * trigrams until the next restart, which only widens the candidate set.
+ * <p>
+ * Each posting list is a sorted {@code long[]}. Once the postings outgrow
+ * {@code finance.search.description-index-memory-budget} the index is dropped and every description search falls
+ * back to the plain {@code LIKE} scan until the next restart.
+ */
+@Component
+public class DescriptionTrigramIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(DescriptionTrigramIndex.class);
+    private static final int GRAM = 3;
+
+    /** Rough heap cost of one trigram entry beyond its ids: map node, key string and posting object. */
+    private static final long POSTING_OVERHEAD_BYTES = 128;
+
+    /** Rough heap cost of one boxed id in the set of descriptions that are not indexed. */
+    private static final long UNINDEXED_ID_BYTES = 64;
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final FinanceSearchProperties searchProperties;
+    private final Map<String, Posting> postings = new ConcurrentHashMap<>();
+    private final Set<Long> unindexed = ConcurrentHashMap.newKeySet();
+    private final AtomicLong usedBytes = new AtomicLong();
+    private volatile boolean loaded;
+    private volatile boolean overBudget;
+
+    public DescriptionTrigramIndex(@Lazy TransactionRepository transactionRepository,
+                                   @Lazy PlatformTransactionManager transactionManager,
+                                   FinanceSearchProperties searchProperties) {
+        this.transactionRepository = transactionRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.searchProperties = searchProperties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        AtomicLong rows = new AtomicLong();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Object[]> descriptions = transactionRepository.streamDescriptions()) {
+                descriptions.forEach(row -> {
+                    add((Long) row[0], (String) row[1]);
+                    rows.incrementAndGet();
+                });
+            }
+        });
+        loaded = true;
+        log.info("Description index loaded with {} rows and {} trigrams in about {} bytes",
+                rows.get(), postings.size(), usedBytes.get());
+    }
+
+    public void add(Long id, String description) {
+        if (id == null || description == null || overBudget) {
+            return;
+        }
+        if (!isAscii(description)) {
+            if (unindexed.add(id)) {
+                usedBytes.addAndGet(UNINDEXED_ID_BYTES);
+            }
+        } else {
+            String normalized = description.toLowerCase(Locale.ROOT);
+            for (int i = 0; i + GRAM <= normalized.length(); i++) {
+                Posting posting = postings.computeIfAbsent(normalized.substring(i, i + GRAM), gram -> {
+                    usedBytes.addAndGet(POSTING_OVERHEAD_BYTES);
+                    return new Posting();
+                });
+                if (posting.add(id)) {
+                    usedBytes.addAndGet(Long.BYTES);
+                }
+            }
+        }
+        long budget = searchProperties.getDescriptionIndexMemoryBudget().toBytes();
+        if (usedBytes.get() > budget && !overBudget) {
+            overBudget = true;
+            postings.clear();
+            unindexed.clear();
+            log.warn("Description index outgrew its budget of {} bytes, description searches use LIKE alone", budget);
+        }
+    }
+
+    /**
+     * Drops {@code id} from every posting list. Inside a transaction the removal waits for the commit, so a
+     * rolled-back delete never hides a row that still exists.
+     */
+    public void remove(Long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeNow(id);
+                }
+            });
+        } else {
+            removeNow(id);
+        }
+    }
+
+    /**
+     * Ids of the transactions whose description may contain {@code term}, ignoring case. Empty when the index
+     * cannot answer: before it is loaded, for terms shorter than three characters, for terms that are not plain
+     * ASCII or contain {@code LIKE} wildcards, once the index has outgrown its memory budget, and when more rows
+     * match than {@code finance.search.description-index-max-candidates}.
+     */
+    public Optional<Set<Long>> candidates(String term) {
+        if (!loaded || overBudget || term.length() < GRAM || !isAscii(term) || containsWildcard(term)) {
+            return Optional.empty();
+        }
+        String normalized = term.toLowerCase(Locale.ROOT);
+        List<Posting> lists = new ArrayList<>();
+        for (int i = 0; i + GRAM <= normalized.length(); i++) {
+            Posting posting = postings.get(normalized.substring(i, i + GRAM));
+            if (posting == null) {
+                lists.clear();
+                break;
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Posting::size));
+
+        Set<Long> candidates = new HashSet<>(unindexed);
+        if (!lists.isEmpty()) {
+            for (long id : lists.get(0).toArray()) {
+                if (lists.stream().skip(1).allMatch(posting -> posting.contains(id))) {
+                    candidates.add(id);
+                }
+            }
+        }
+        if (candidates.size() > searchProperties.getDescriptionIndexMaxCandidates()) {
+            return Optional.empty();
+        }
+        return Optional.of(candidates);
+    }
+
+    private void removeNow(Long id) {
+        if (unindexed.remove(id)) {
+            usedBytes.addAndGet(-UNINDEXED_ID_BYTES);
+        }
+        postings.values().forEach(posting -> {
+            if (posting.remove(id)) {
+                usedBytes.addAndGet(-Long.BYTES);
+            }
+        });
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0x7f) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsWildcard(String term) {
+        return term.indexOf('%') >= 0 || term.indexOf('_') >= 0 || term.indexOf('\\') >= 0;
+    }
+
+    /**
+     * Sorted ids of one trigram. Ids mostly arrive in increasing order, so adds are usually appends.
+     */
+    private static final class Posting {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        synchronized boolean add(long id) {
+            int at = size == 0 || ids[size - 1] < id ? size : Arrays.binarySearch(ids, 0, size, id);
+            if (at < 0) {
+                at = -at - 1;
+            } else if (at < size) {
+                return false;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, at, ids, at + 1, size - at);
+            ids[at] = id;
+            size++;
+            return true;
+        }
+
+        synchronized boolean remove(long id) {
+            int at = Arrays.binarySearch(ids, 0, size, id);
+            if (at < 0) {
+                return false;
+            }
+            System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+            size--;
+            return true;
+        }
+
+        synchronized boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized long[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.personalfinancetracker.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory name&harr;id cache over the {@code account} and {@code category} dictionary tables. Lookups never write:
+ * unknown names resolve to {@link #UNKNOWN_ID}, which matches no row. New names are added by {@link #register}
+ * from {@link NameDictionaryListener} when a transaction is persisted or updated, in the writer's transaction and on
+ * its connection; they are visible to that transaction at once and cached for everyone only after it commits, so an
+ * entry is never cached from a caller that rolls back. A row written with {@link #UNKNOWN_ID} fails the foreign key
+ * to the dictionary table rather than being stored.
+ */
+@Component
+public class NameDictionary {
+
+    /** Never assigned by the identity columns, so equality filters on it match nothing. */
+    public static final int UNKNOWN_ID = 0;
+
+    private static final Logger log = LoggerFactory.getLogger(NameDictionary.class);
+
+    public enum Kind {
+        ACCOUNT("account"),
+        CATEGORY("category");
+
+        private final String table;
+
+        Kind(String table) {
+            this.table = table;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Kind, Map<String, Integer>> ids = new EnumMap<>(Kind.class);
+    private final Map<Kind, Map<Integer, String>> names = new EnumMap<>(Kind.class);
+
+    public NameDictionary(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        for (Kind kind : Kind.values()) {
+            ids.put(kind, new ConcurrentHashMap<>());
+            names.put(kind, new ConcurrentHashMap<>());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (Kind kind : Kind.values()) {
+            jdbcTemplate.query("SELECT id, name FROM " + kind.table,
+                    (RowCallbackHandler) resultSet -> cache(kind, resultSet.getInt(1), resultSet.getString(2)));
+            log.info("Loaded {} {} names", ids.get(kind).size(), kind.table);
+        }
+    }
+
+    /**
+     * Id of {@code name}, or {@link #UNKNOWN_ID} when it has never been registered.
+     */
+    public Integer idOf(Kind kind, String name) {
+        if (name == null) {
+            return null;
+        }
+        Integer id = ids.get(kind).get(name);
+        if (id == null) {
+            id = pendingId(kind, name);
+        }
+        if (id == null) {
+            id = find(kind, name);
+        }
+        return id != null ? id : UNKNOWN_ID;
+    }
+
+    public String nameOf(Kind kind, Integer id) {
+        if (id == null) {
+            return null;
+        }
+        String name = names.get(kind).get(id);
+        if (name != null) {
+            return name;
+        }
+        Map<Kind, Map<String, Integer>> pending = pending();
+        if (pending != null) {
+            for (Map.Entry<String, Integer> entry : pending.get(kind).entrySet()) {
+                if (entry.getValue().equals(id)) {
+                    return entry.getKey();
+                }
+            }
+        }
+        List<String> found = jdbcTemplate.queryForList("SELECT name FROM " + kind.table + " WHERE id = ?", String.class, id);
+        if (found.isEmpty()) {
+            throw new IllegalStateException("Unknown " + kind.table + " id: " + id);
+        }
+        cache(kind, id, found.get(0));
+        return found.get(0);
+    }
+
+    /**
+     * Returns the id of {@code name}, inserting it first when it is new. Must run inside the caller's write
+     * transaction: the insert-if-absent shares its connection, so no second connection is taken. A concurrent
+     * insert of the same name that wins the unique key makes the merge fail once; the retry matches its row.
+     */
+    public Integer register(Kind kind, String name) {
+        if (name == null) {
+            return null;
+        }
+        Integer id = ids.get(kind).get(name);
+        if (id == null) {
+            id = pendingId(kind, name);
+        }
+        if (id != null) {
+            return id;
+        }
+        try {
+            merge(kind, name);
+        } catch (DuplicateKeyException e) {
+            merge(kind, name);
+        }
+        id = jdbcTemplate.queryForObject("SELECT id FROM " + kind.table + " WHERE name = ?", Integer.class, name);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            registered().get(kind).put(name, id);
+        } else {
+            cache(kind, id, name);
+        }
+        log.debug("Registered {} name {} as {}", kind.table, name, id);
+        return id;
+    }
+
+    private void merge(Kind kind, String name) {
+        jdbcTemplate.update("MERGE INTO " + kind.table + " t USING (VALUES (CAST(? AS VARCHAR))) AS s(name) "
+                + "ON t.name = s.name WHEN NOT MATCHED THEN INSERT (name) VALUES (s.name)", name);
+    }
+
+    /**
+     * Only ever called for names this transaction did not insert, so the row read is committed.
+     */
+    private Integer find(Kind kind, String name) {
+        List<Integer> found = jdbcTemplate.queryForList("SELECT id FROM " + kind.table + " WHERE name = ?", Integer.class, name);
+        if (found.isEmpty()) {
+            return null;
+        }
+        cache(kind, found.get(0), name);
+        return found.get(0);
+    }
+
+    private Integer pendingId(Kind kind, String name) {
+        Map<Kind, Map<String, Integer>> pending = pending();
+        return pending != null ? pending.get(kind).get(name) : null;
+    }
+
+    /**
+     * Names registered by the current transaction, or {@code null} when it has registered none.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Kind, Map<String, Integer>> pending() {
+        return (Map<Kind, Map<String, Integer>>) TransactionSynchronizationManager.getResource(this);
+    }
+
+    /**
+     * Names registered by the current transaction, created on first use and moved into the shared cache once the
+     * transaction commits.
+     */
+    private Map<Kind, Map<String, Integer>> registered() {
+        Map<Kind, Map<String, Integer>> pending = pending();
+        if (pending != null) {
+            return pending;
+        }
+        Map<Kind, Map<String, Integer>> registered = new EnumMap<>(Kind.class);
+        for (Kind kind : Kind.values()) {
+            registered.put(kind, new HashMap<>());
+        }
+        TransactionSynchronizationManager.bindResource(this, registered);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                registered.forEach((kind, byName) -> byName.forEach((name, id) -> cache(kind, id, name)));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(NameDictionary.this);
+            }
+        });
+        return registered;
+    }
+
+    private void cache(Kind kind, Integer id, String name) {
+        ids.get(kind).put(name, id);
+        names.get(kind).put(id, name);
+    }
+}
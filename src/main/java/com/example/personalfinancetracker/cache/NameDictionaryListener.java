@@ -0,0 +1,26 @@
+package com.example.personalfinancetracker.cache;
+
+import com.example.personalfinancetracker.domain.Transaction;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registers the account and category names of a transaction in the dictionary before it is inserted or updated,
+ * so the converters can resolve them. Runs inside the writing transaction and on its connection, whether the entity
+ * is saved through {@code TransactionService} or straight through the repository.
+ */
+@Component
+@RequiredArgsConstructor
+public class NameDictionaryListener {
+
+    private final NameDictionary nameDictionary;
+
+    @PrePersist
+    @PreUpdate
+    public void register(Transaction transaction) {
+        nameDictionary.register(NameDictionary.Kind.ACCOUNT, transaction.getAccountName());
+        nameDictionary.register(NameDictionary.Kind.CATEGORY, transaction.getCategory());
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.personalfinancetracker.cache;
+
+import com.example.personalfinancetracker.domain.Transaction;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the in-memory indexes over transactions in step with every write, including writes that bypass
+ * {@code TransactionService}. Registered on {@link Transaction} and instantiated through Spring.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionIndexListener {
+
+    private final AccountNameFilter accountNameFilter;
+    private final DescriptionTrigramIndex descriptionTrigramIndex;
+    private final ColumnarAnalyticsEngine analyticsEngine;
+
+    @PostPersist
+    @PostUpdate
+    public void onWrite(Transaction transaction) {
+        accountNameFilter.add(transaction.getAccountName());
+        descriptionTrigramIndex.add(transaction.getId(), transaction.getDescription());
+        analyticsEngine.invalidate(transaction.getAccountName());
+    }
+
+    @PostRemove
+    public void onRemove(Transaction transaction) {
+        descriptionTrigramIndex.remove(transaction.getId());
+        analyticsEngine.invalidate(transaction.getAccountName());
+    }
+}
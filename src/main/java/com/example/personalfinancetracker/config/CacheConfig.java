@@ -0,0 +1,116 @@
+package com.example.personalfinancetracker.config;
+
+import com.example.personalfinancetracker.cache.BalanceCache;
+import com.example.personalfinancetracker.cache.BalanceCacheEvictor;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Configuration
+public class CacheConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheConfig.class);
+
+    /**
+     * {@code balanceCache} is always a {@link BalanceCache}, so single accounts can be evicted without a key scan.
+     */
+    @Bean
+    public CacheManager cacheManager(FinanceCacheProperties properties) {
+        FinanceCacheProperties.Spec balanceSpec = properties.getSpecs()
+                .getOrDefault(BalanceCacheEvictor.BALANCE_CACHE, properties.getDefaults());
+        log.info("Configuring cache {} with {}", BalanceCacheEvictor.BALANCE_CACHE, balanceSpec);
+        BalanceCache balanceCache = new BalanceCache(caffeine(balanceSpec), true);
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return cache == balanceCache.getNativeCache() ? balanceCache : super.adaptCaffeineCache(name, cache);
+            }
+        };
+        cacheManager.setCaffeine(caffeine(properties.getDefaults()));
+        cacheManager.registerCustomCache(BalanceCacheEvictor.BALANCE_CACHE, balanceCache.getNativeCache());
+        properties.getSpecs().forEach((name, spec) -> {
+            if (!BalanceCacheEvictor.BALANCE_CACHE.equals(name)) {
+                log.info("Configuring cache {} with {}", name, spec);
+                cacheManager.registerCustomCache(name, caffeine(spec).build());
+            }
+        });
+        return cacheManager;
+    }
+
+    /**
+     * JCache manager behind Hibernate's second-level and query caches, with a Caffeine cache per region sized
+     * from {@code finance.cache.regions}. Every application context gets a manager of its own, so contexts on
+     * different databases never share cached rows. The update timestamps region is never bounded: losing an
+     * entry there would let stale query results through.
+     */
+    @Bean(destroyMethod = "close")
+    public javax.cache.CacheManager hibernateCacheManager(FinanceCacheProperties properties) {
+        javax.cache.CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager(
+                URI.create("finance-hibernate:" + UUID.randomUUID()), getClass().getClassLoader());
+        Map<String, FinanceCacheProperties.Spec> regions = new LinkedHashMap<>(properties.getRegions());
+        regions.putIfAbsent(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, properties.getDefaults());
+        regions.forEach((name, spec) -> {
+            log.info("Configuring Hibernate cache region {} with {}", name, spec);
+            cacheManager.createCache(name, jcache(spec));
+        });
+        CaffeineConfiguration<Object, Object> timestamps = jcache(new FinanceCacheProperties.Spec());
+        timestamps.setMaximumSize(OptionalLong.empty());
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestamps);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(javax.cache.CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    /**
+     * Caffeine evicts by size with W-TinyLFU, so entries asked for once do not push out hot balances.
+     */
+    private static Caffeine<Object, Object> caffeine(FinanceCacheProperties.Spec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(spec.getMaximumSize());
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(spec.getExpireAfterAccess());
+        }
+        if (spec.isRecordStats()) {
+            builder.recordStats();
+        }
+        return builder;
+    }
+
+    /**
+     * Hibernate caches immutable disassembled state, so entries are stored by reference rather than copied.
+     */
+    private static CaffeineConfiguration<Object, Object> jcache(FinanceCacheProperties.Spec spec) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setMaximumSize(OptionalLong.of(spec.getMaximumSize()));
+        if (spec.getExpireAfterWrite() != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(spec.getExpireAfterWrite().toNanos()));
+        }
+        if (spec.getExpireAfterAccess() != null) {
+            configuration.setExpireAfterAccess(OptionalLong.of(spec.getExpireAfterAccess().toNanos()));
+        }
+        configuration.setStatisticsEnabled(spec.isRecordStats());
+        return configuration;
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.personalfinancetracker.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lets at most a fixed number of connections be checked out at once. Callers beyond the limit wait on a fair
+ * semaphore, in arrival order, for up to the acquire timeout. The permit is returned once, on the first
+ * {@code close()} or {@code abort(Executor)} of the connection. Once bound to a registry, the wait for a permit is recorded as
+ * {@code finance.jdbc.permit.wait} and the free permits as {@code finance.jdbc.permits.available}.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource implements MeterBinder {
+
+    private final Semaphore permits;
+    private final int limit;
+    private final Duration acquireTimeout;
+    private volatile Timer waitTimer;
+
+    public ConnectionLimitingDataSource(DataSource targetDataSource, int limit, Duration acquireTimeout) {
+        super(targetDataSource);
+        if (limit < 1) {
+            throw new IllegalArgumentException("Connection limit must be positive: " + limit);
+        }
+        this.permits = new Semaphore(limit, true);
+        this.limit = limit;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("finance.jdbc.permits.available", permits, Semaphore::availablePermits)
+                .description("Connection permits not checked out")
+                .register(registry);
+        waitTimer = Timer.builder("finance.jdbc.permit.wait")
+                .description("Time spent waiting for a connection permit")
+                .publishPercentiles(MetricsConfig.PERCENTILES)
+                .register(registry);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            boolean acquired = permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            Timer timer = waitTimer;
+            if (timer != null) {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            if (!acquired) {
+                throw new SQLTransientConnectionException(
+                        "No database connection available within " + acquireTimeout.toMillis() + "ms (limit " + limit + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    boolean releasing = method.getName().equals("close") && method.getParameterCount() == 0
+                            || method.getName().equals("abort") && method.getParameterCount() == 1;
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    } finally {
+                        if (releasing && released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                });
+    }
+}
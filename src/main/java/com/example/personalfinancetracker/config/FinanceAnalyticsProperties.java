@@ -0,0 +1,25 @@
+package com.example.personalfinancetracker.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@ConfigurationProperties(prefix = "finance.analytics")
+public class FinanceAnalyticsProperties {
+
+    /**
+     * Routes balances and exact search totals of single accounts to the in-memory column store instead of SQL.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Heap the column store may use; least recently used accounts are dropped beyond it.
+     */
+    private DataSize memoryBudget = DataSize.ofMegabytes(64);
+
+    /**
+     * Rows scanned by one task before a range is split across the fork-join pool.
+     */
+    private int parallelThreshold = 1 << 16;
+}
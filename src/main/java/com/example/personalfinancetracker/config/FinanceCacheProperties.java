@@ -0,0 +1,45 @@
+package com.example.personalfinancetracker.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-cache limits, bound from {@code finance.cache}. Caches without an entry in {@code specs}
+ * are built from {@code defaults}, and so are Hibernate cache regions without an entry in {@code regions}.
+ */
+@Data
+@ConfigurationProperties(prefix = "finance.cache")
+public class FinanceCacheProperties {
+
+    private Spec defaults = new Spec();
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    /**
+     * Hibernate second-level and query cache regions by name. Cached search pages hold only transaction ids, so
+     * the entity region should outlive and outnumber the entries of the query regions.
+     */
+    private Map<String, Spec> regions = new LinkedHashMap<>();
+    private AccountFilter accountFilter = new AccountFilter();
+
+    @Data
+    public static class Spec {
+        private long maximumSize = 10_000;
+        private Duration expireAfterWrite;
+        private Duration expireAfterAccess;
+        private boolean recordStats = true;
+    }
+
+    /**
+     * Sizing of the in-memory filter of known account names. The bit array is fixed at startup; above
+     * {@code expectedAccounts} the false positive rate degrades but no account is ever missed.
+     */
+    @Data
+    public static class AccountFilter {
+        private int expectedAccounts = 100_000;
+        private double falsePositiveRate = 0.01;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.personalfinancetracker.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "finance.export")
+public class FinanceExportProperties {
+
+    /**
+     * Rows the JDBC driver fetches per round trip while an export scrolls through its result.
+     */
+    private int fetchSize = 500;
+}
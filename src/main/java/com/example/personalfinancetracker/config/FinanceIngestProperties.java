@@ -0,0 +1,19 @@
+package com.example.personalfinancetracker.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "finance.ingest")
+public class FinanceIngestProperties {
+
+    /**
+     * Rows written and flushed together before the persistence context is cleared.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Row errors listed in an import result; further rejected rows are only counted.
+     */
+    private int maxReportedErrors = 100;
+}
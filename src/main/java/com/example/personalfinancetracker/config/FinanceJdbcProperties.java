@@ -0,0 +1,21 @@
+package com.example.personalfinancetracker.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "finance.jdbc")
+public class FinanceJdbcProperties {
+
+    /**
+     * Connections handed out at once in virtual-thread mode; 0 uses the connection pool's maximum size.
+     */
+    private int maxConcurrentConnections = 0;
+
+    /**
+     * Longest wait for a connection permit before the request fails.
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,16 @@
+package com.example.personalfinancetracker.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Currency;
+
+@Data
+@ConfigurationProperties(prefix = "finance.money")
+public class FinanceMoneyProperties {
+
+    /**
+     * Currency of all amounts; its default fraction digits set the scale of in-memory minor-unit arithmetic.
+     */
+    private Currency currency = Currency.getInstance("EUR");
+}
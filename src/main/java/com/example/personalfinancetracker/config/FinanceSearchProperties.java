@@ -0,0 +1,36 @@
+package com.example.personalfinancetracker.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@ConfigurationProperties(prefix = "finance.search")
+public class FinanceSearchProperties {
+
+    /**
+     * Matches counted exactly when a search asks for estimated totals; larger counts are extrapolated.
+     */
+    private int estimatedCountLimit = 1000;
+
+    /**
+     * Largest page served by the account listing; larger requested sizes are capped.
+     */
+    private int maxPageSize = 200;
+
+    /**
+     * Description index candidates passed to a query at most; broader terms are filtered by {@code LIKE} alone.
+     */
+    private int descriptionIndexMaxCandidates = 1000;
+
+    /**
+     * Heap the description index may use; beyond it the index is dropped and description searches use {@code LIKE}
+     * alone.
+     */
+    private DataSize descriptionIndexMemoryBudget = DataSize.ofMegabytes(32);
+
+    /**
+     * Points a balance series may have at most; longer ranges are rejected.
+     */
+    private int maxSeriesPoints = 3660;
+}
@@ -0,0 +1,22 @@
+package com.example.personalfinancetracker.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables {@code @Timed} on Spring beans. {@code TransactionService} methods are recorded as
+ * {@code finance.service} and {@code CustomTransactionRepositoryImpl} queries as {@code finance.repository.query},
+ * both tagged with class and method and published with p50/p95/p99.
+ */
+@Configuration
+public class MetricsConfig {
+
+    public static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
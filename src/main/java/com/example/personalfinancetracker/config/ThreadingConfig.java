@@ -0,0 +1,63 @@
+package com.example.personalfinancetracker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Virtual-thread mode, switched on with {@code spring.threads.virtual.enabled}. Spring Boot then runs Tomcat
+ * request handling and MVC async work such as streamed exports on virtual threads. Since those are no longer
+ * bounded by a worker pool, the datasource is wrapped in a {@link ConnectionLimitingDataSource} sized to the
+ * connection pool, so bursts queue for a permit instead of timing out inside the pool.
+ */
+@Configuration
+public class ThreadingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadingConfig.class);
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    static BeanPostProcessor connectionLimitingDataSourcePostProcessor(ObjectProvider<FinanceJdbcProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimitingDataSource) {
+                    return bean;
+                }
+                FinanceJdbcProperties jdbcProperties = properties.getObject();
+                int limit = jdbcProperties.getMaxConcurrentConnections() > 0
+                        ? jdbcProperties.getMaxConcurrentConnections()
+                        : poolSize(dataSource);
+                log.info("Limiting datasource {} to {} concurrent connections for virtual threads", beanName, limit);
+                return new ConnectionLimitingDataSource(dataSource, limit, jdbcProperties.getAcquireTimeout());
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public MeterBinder connectionPermitMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConnectionLimitingDataSource limited) {
+                limited.bindTo(registry);
+            }
+        };
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        throw new IllegalStateException("Set finance.jdbc.max-concurrent-connections for datasource "
+                + dataSource.getClass().getName());
+    }
+}
@@ -1,26 +1,60 @@
 package com.example.personalfinancetracker.controller;
 
+import com.example.personalfinancetracker.domain.BalanceSeriesStep;
+import com.example.personalfinancetracker.domain.ExportFormat;
+import com.example.personalfinancetracker.domain.RollupPeriod;
+import com.example.personalfinancetracker.domain.SummaryGroupBy;
+import com.example.personalfinancetracker.domain.TotalsMode;
+import com.example.personalfinancetracker.dto.AccountBalanceDTO;
+import com.example.personalfinancetracker.dto.BalancePointDTO;
+import com.example.personalfinancetracker.dto.BatchBalanceRequestDTO;
+import com.example.personalfinancetracker.dto.BatchTransactionRequestDTO;
+import com.example.personalfinancetracker.dto.CategoryTotalDTO;
+import com.example.personalfinancetracker.dto.ImportResultDTO;
 import com.example.personalfinancetracker.dto.PagedTransactionResponseDTO;
 import com.example.personalfinancetracker.dto.TransactionRequestDTO;
 import com.example.personalfinancetracker.dto.TransactionResponseDTO;
 import com.example.personalfinancetracker.dto.TransactionSearchCriteriaDTO;
+import com.example.personalfinancetracker.dto.TransactionSummaryDTO;
+import com.example.personalfinancetracker.service.TransactionExportService;
+import com.example.personalfinancetracker.service.TransactionImportService;
 import com.example.personalfinancetracker.service.TransactionService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 @RestController
-@RequestMapping("/api/v1/transactions")
+@RequestMapping(TransactionController.BASE_PATH)
 @RequiredArgsConstructor
 public class TransactionController {
 
+    static final String BASE_PATH = "/api/v1/transactions";
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final String HAS_NEXT_HEADER = "X-Has-Next";
+
     private final TransactionService transactionService;
+    private final TransactionImportService transactionImportService;
+    private final TransactionExportService transactionExportService;
 
     @PostMapping
     public ResponseEntity<TransactionResponseDTO> addTransaction(@Valid @RequestBody TransactionRequestDTO requestDTO) {
@@ -28,10 +62,59 @@ public class TransactionController {
         return ResponseEntity.ok(responseDTO);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<TransactionResponseDTO>> addTransactions(@Valid @RequestBody BatchTransactionRequestDTO requestDTO) {
+        List<TransactionResponseDTO> responseDTOs = transactionService.addTransactions(requestDTO.getTransactions());
+        return ResponseEntity.ok(responseDTOs);
+    }
+
+    @PostMapping(value = "/import", consumes = {TEXT_CSV_VALUE, APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ImportResultDTO> importTransactions(HttpServletRequest request) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        ImportResultDTO result = contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? transactionImportService.importNdjson(request.getInputStream())
+                : transactionImportService.importCsv(request.getInputStream());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Returns one page as a plain array; {@code X-Has-Next} and a {@code Link: rel="next"} header describe the
+     * next page. {@code all=true} redirects to the streaming export for the same account and dates.
+     */
     @GetMapping("/account/{accountName}")
-    public ResponseEntity<List<TransactionResponseDTO>> getTransactionsByAccount(@PathVariable String accountName) {
-        List<TransactionResponseDTO> transactions = transactionService.getTransactionsByAccount(accountName);
-        return ResponseEntity.ok(transactions);
+    public ResponseEntity<List<TransactionResponseDTO>> getTransactionsByAccount(
+            @PathVariable String accountName,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean all) {
+
+        if (all) {
+            URI export = ServletUriComponentsBuilder.fromCurrentContextPath()
+                    .path(BASE_PATH + "/export")
+                    .queryParam("accountName", accountName)
+                    .queryParamIfPresent("fromDate", Optional.ofNullable(fromDate))
+                    .queryParamIfPresent("toDate", Optional.ofNullable(toDate))
+                    .build()
+                    .toUri();
+            return ResponseEntity.status(HttpStatus.SEE_OTHER).location(export).build();
+        }
+
+        Slice<TransactionResponseDTO> transactions =
+                transactionService.getTransactionsByAccount(accountName, fromDate, toDate, page, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HAS_NEXT_HEADER, String.valueOf(transactions.hasNext()));
+        if (transactions.hasNext()) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("page", page + 1)
+                    .replaceQueryParam("size", transactions.getSize())
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(transactions.getContent());
     }
 
     @GetMapping("/balance/{accountName}")
@@ -45,6 +128,42 @@ public class TransactionController {
         return ResponseEntity.ok(balance);
     }
 
+    @PostMapping("/balance/batch")
+    public ResponseEntity<List<AccountBalanceDTO>> getBalances(@Valid @RequestBody BatchBalanceRequestDTO requestDTO) {
+        return ResponseEntity.ok(transactionService.calculateBalances(requestDTO.getBalances()));
+    }
+
+    @GetMapping("/balance/{accountName}/series")
+    public ResponseEntity<List<BalancePointDTO>> getBalanceSeries(
+            @PathVariable String accountName,
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String step) {
+        LocalDate toDate = to != null ? to : LocalDate.now();
+        List<BalancePointDTO> series = transactionService.calculateBalanceSeries(
+                accountName, from, toDate, BalanceSeriesStep.from(step));
+        return ResponseEntity.ok(series);
+    }
+
+    /**
+     * Totals per category of an account from {@code from} (default the start of the current year) to {@code to}
+     * (default today); {@code limit} keeps only the categories with the largest absolute totals.
+     */
+    @GetMapping("/balance/{accountName}/categories")
+    public ResponseEntity<List<CategoryTotalDTO>> getCategoryTotals(
+            @PathVariable String accountName,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer limit) {
+        LocalDate toDate = to != null ? to : LocalDate.now();
+        LocalDate fromDate = from != null ? from : toDate.withDayOfYear(1);
+        return ResponseEntity.ok(transactionService.calculateCategoryTotals(accountName, fromDate, toDate, limit));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<TransactionResponseDTO> updateTransaction(
             @PathVariable Long id,
@@ -59,13 +178,54 @@ public class TransactionController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") String includeTotals) {
 
         PagedTransactionResponseDTO response = transactionService.searchTransactions(
-                searchCriteria, page, size, sortBy, sortDir);
+                searchCriteria, page, size, sortBy, sortDir, cursor, TotalsMode.from(includeTotals));
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @Valid @ModelAttribute TransactionSearchCriteriaDTO searchCriteria,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir) {
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+        Sort sort = transactionExportService.exportSort(sortBy, sortDir);
+        StreamingResponseBody body = out -> transactionExportService.exportTransactions(
+                searchCriteria, sort, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=transactions." + exportFormat.name().toLowerCase())
+                .body(body);
+    }
+
+    /**
+     * Totals per category or account and period, read from the rollups. The range defaults to the start of the
+     * current year until today.
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<List<TransactionSummaryDTO>> summarizeTransactions(
+            @RequestParam(defaultValue = "category") String groupBy,
+            @RequestParam(defaultValue = "month") String period,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String accountName) {
+
+        LocalDate toDate = to != null ? to : LocalDate.now();
+        LocalDate fromDate = from != null ? from : toDate.withDayOfYear(1);
+        List<TransactionSummaryDTO> summary = transactionService.summarizeTransactions(
+                SummaryGroupBy.from(groupBy), RollupPeriod.from(period), fromDate, toDate, accountName);
+        return ResponseEntity.ok(summary);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTransaction(@PathVariable Long id) {
         transactionService.deleteTransaction(id);
@@ -0,0 +1,31 @@
+package com.example.personalfinancetracker.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Closing balance of an account at the end of a day. Kept up to date by the write paths in
+ * {@code TransactionService} so that balance lookups only have to add the rows posted after it.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"account_name", "checkpoint_date"}))
+public class BalanceCheckpoint {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String accountName;
+    private LocalDate checkpointDate;
+    private BigDecimal balance;
+
+    public BalanceCheckpoint(String accountName, LocalDate checkpointDate, BigDecimal balance) {
+        this.accountName = accountName;
+        this.checkpointDate = checkpointDate;
+        this.balance = balance;
+    }
+}
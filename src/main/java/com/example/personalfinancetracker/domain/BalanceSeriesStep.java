@@ -0,0 +1,33 @@
+package com.example.personalfinancetracker.domain;
+
+import java.time.LocalDate;
+
+/**
+ * Spacing of the points of a balance series, taken from the {@code step} request parameter.
+ */
+public enum BalanceSeriesStep {
+    DAY,
+    WEEK,
+    MONTH;
+
+    /**
+     * The {@code index}-th point after {@code start}. Months are counted from {@code start} rather than from the
+     * previous point, so a series starting on the 31st returns to the 31st whenever the month has one.
+     */
+    public LocalDate point(LocalDate start, int index) {
+        return switch (this) {
+            case DAY -> start.plusDays(index);
+            case WEEK -> start.plusWeeks(index);
+            case MONTH -> start.plusMonths(index);
+        };
+    }
+
+    public static BalanceSeriesStep from(String step) {
+        return switch (step.toLowerCase()) {
+            case "day" -> DAY;
+            case "week" -> WEEK;
+            case "month" -> MONTH;
+            default -> throw new IllegalArgumentException("Invalid step: " + step + ". Expected day, week or month");
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.personalfinancetracker.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * Dictionary entry giving each distinct category name an integer key. Transactions store the key; the names are
+ * resolved through {@code NameDictionary}.
+ */
+@Data
+@Entity
+public class Category {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+    @Column(nullable = false, unique = true)
+    private String name;
+}
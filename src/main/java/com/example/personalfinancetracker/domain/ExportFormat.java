@@ -0,0 +1,29 @@
+package com.example.personalfinancetracker.domain;
+
+/**
+ * Output formats of the transaction export, taken from the {@code format} request parameter.
+ */
+public enum ExportFormat {
+    /** One JSON object per line. */
+    NDJSON("application/x-ndjson"),
+    /** A header row followed by one row per transaction. */
+    CSV("text/csv");
+
+    private final String mediaType;
+
+    ExportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public static ExportFormat from(String format) {
+        return switch (format.toLowerCase()) {
+            case "ndjson" -> NDJSON;
+            case "csv" -> CSV;
+            default -> throw new IllegalArgumentException("Invalid format: " + format + ". Expected ndjson or csv");
+        };
+    }
+}
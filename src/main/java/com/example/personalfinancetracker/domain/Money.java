@@ -0,0 +1,73 @@
+package com.example.personalfinancetracker.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * An amount held as a {@code long} count of minor units, with the scale taken from the currency's default fraction
+ * digits. Arithmetic is overflow-checked and never allocates a {@link BigDecimal}; conversion happens only at the
+ * edges, in {@link #of(BigDecimal, Currency)} and {@link #toBigDecimal()}.
+ */
+public record Money(long minorUnits, Currency currency) {
+
+    public Money {
+        Objects.requireNonNull(currency, "currency");
+        if (currency.getDefaultFractionDigits() < 0) {
+            throw new IllegalArgumentException("Currency has no minor unit: " + currency);
+        }
+    }
+
+    public static Money zero(Currency currency) {
+        return new Money(0, currency);
+    }
+
+    public static Money of(BigDecimal amount, Currency currency) {
+        return new Money(minorUnitsOf(amount, currency), currency);
+    }
+
+    /**
+     * Minor units of {@code amount}, rounded half-up to the currency scale as the {@code DECIMAL} amount column
+     * does.
+     *
+     * @throws ArithmeticException if the amount does not fit in a {@code long}
+     */
+    public static long minorUnitsOf(BigDecimal amount, Currency currency) {
+        return amount.setScale(currency.getDefaultFractionDigits(), RoundingMode.HALF_UP)
+                .unscaledValue()
+                .longValueExact();
+    }
+
+    public int scale() {
+        return currency.getDefaultFractionDigits();
+    }
+
+    public Money plus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money minus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money negate() {
+        return new Money(Math.negateExact(minorUnits), currency);
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, scale());
+    }
+
+    private void requireSameCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " and " + other.currency);
+        }
+    }
+}
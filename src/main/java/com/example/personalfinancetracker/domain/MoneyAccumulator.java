@@ -0,0 +1,38 @@
+package com.example.personalfinancetracker.domain;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+/**
+ * Mutable running total in minor units for aggregation loops. Each addition is a single overflow-checked
+ * {@code long} add; the total becomes a {@link Money} only when read.
+ */
+public final class MoneyAccumulator {
+
+    private final Currency currency;
+    private long total;
+
+    public MoneyAccumulator(Currency currency) {
+        this.currency = currency;
+    }
+
+    public MoneyAccumulator add(long minorUnits) {
+        total = Math.addExact(total, minorUnits);
+        return this;
+    }
+
+    public MoneyAccumulator add(BigDecimal amount) {
+        return add(Money.minorUnitsOf(amount, currency));
+    }
+
+    public MoneyAccumulator add(Money amount) {
+        if (!currency.equals(amount.currency())) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " and " + amount.currency());
+        }
+        return add(amount.minorUnits());
+    }
+
+    public Money toMoney() {
+        return new Money(total, currency);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.personalfinancetracker.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * An amount and transaction count to add to the rollup row of an account, category and period.
+ */
+public record RollupChange(String accountName, String category, RollupPeriod periodType, LocalDate periodStart,
+                           BigDecimal amount, long count) {
+}
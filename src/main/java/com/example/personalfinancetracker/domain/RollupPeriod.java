@@ -0,0 +1,39 @@
+package com.example.personalfinancetracker.domain;
+
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Period granularity of the summary endpoint, taken from the {@code period} request parameter. Day and month totals
+ * are stored as rollups; years are folded from the month rows.
+ */
+public enum RollupPeriod {
+    DAY,
+    MONTH,
+    YEAR;
+
+    /** Granularities kept in the rollup table. */
+    public static final RollupPeriod[] STORED = {DAY, MONTH};
+
+    public LocalDate start(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case MONTH -> date.withDayOfMonth(1);
+            case YEAR -> date.with(TemporalAdjusters.firstDayOfYear());
+        };
+    }
+
+    /** The stored granularity a summary for this period is read from. */
+    public RollupPeriod storedSource() {
+        return this == YEAR ? MONTH : this;
+    }
+
+    public static RollupPeriod from(String period) {
+        return switch (period.toLowerCase()) {
+            case "day" -> DAY;
+            case "month" -> MONTH;
+            case "year" -> YEAR;
+            default -> throw new IllegalArgumentException("Invalid period: " + period + ". Expected day, month or year");
+        };
+    }
+}
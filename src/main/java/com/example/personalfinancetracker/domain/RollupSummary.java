@@ -0,0 +1,10 @@
+package com.example.personalfinancetracker.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One summary row: the rollups of a group (category or account) in one period, added up.
+ */
+public record RollupSummary(String group, LocalDate periodStart, BigDecimal total, long count) {
+}
@@ -0,0 +1,17 @@
+package com.example.personalfinancetracker.domain;
+
+/**
+ * Grouping of the summary endpoint, taken from the {@code groupBy} request parameter.
+ */
+public enum SummaryGroupBy {
+    CATEGORY,
+    ACCOUNT;
+
+    public static SummaryGroupBy from(String groupBy) {
+        return switch (groupBy.toLowerCase()) {
+            case "category" -> CATEGORY;
+            case "account" -> ACCOUNT;
+            default -> throw new IllegalArgumentException("Invalid groupBy: " + groupBy + ". Expected category or account");
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.personalfinancetracker.domain;
+
+/**
+ * How search responses fill {@code totalRecords} and {@code totalBalance}, taken from the
+ * {@code includeTotals} request parameter.
+ */
+public enum TotalsMode {
+    /** Exact count and balance from one aggregate query. */
+    EXACT,
+    /** No aggregates; clients page with {@code hasNext} only. */
+    NONE,
+    /** A count that is exact below a configured limit and extrapolated from row timestamps beyond it; no balance. */
+    ESTIMATED;
+
+    public static TotalsMode from(String includeTotals) {
+        return switch (includeTotals.toLowerCase()) {
+            case "true", "exact" -> EXACT;
+            case "false", "none" -> NONE;
+            case "estimated" -> ESTIMATED;
+            default -> throw new IllegalArgumentException(
+                    "Invalid includeTotals: " + includeTotals + ". Expected true, false or estimated");
+        };
+    }
+}
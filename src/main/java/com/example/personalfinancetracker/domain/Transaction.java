@@ -1,23 +1,71 @@
 package com.example.personalfinancetracker.domain;
 
+import com.example.personalfinancetracker.cache.AccountNameConverter;
+import com.example.personalfinancetracker.cache.CategoryConverter;
+import com.example.personalfinancetracker.cache.NameDictionaryListener;
+import com.example.personalfinancetracker.cache.TransactionIndexListener;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+/**
+ * Account and category names are stored as dictionary ids. The read-only {@code accountEntry} and
+ * {@code categoryEntry} associations exist so queries can sort by name. Rows are kept in the {@value #CACHE_REGION}
+ * second-level cache region; read-write access checks {@code version} so a concurrent update never caches an older
+ * state over a newer one.
+ */
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Transaction.CACHE_REGION)
+@Table(indexes = {
+        @Index(name = "idx_transaction_account_created", columnList = "account_id, created_at"),
+        @Index(name = "idx_transaction_account_category_created", columnList = "account_id, category_id, created_at"),
+        @Index(name = "idx_transaction_category_created", columnList = "category_id, created_at")
+})
+@EntityListeners({NameDictionaryListener.class, TransactionIndexListener.class})
 public class Transaction {
+    public static final String CACHE_REGION = "transaction";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq")
+    @SequenceGenerator(name = "transaction_seq", sequenceName = "transaction_seq", allocationSize = 50)
     private Long id;
+    @Convert(converter = AccountNameConverter.class)
+    @Column(name = "account_id")
     private String accountName;
     private BigDecimal amount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    @Convert(converter = CategoryConverter.class)
+    @Column(name = "category_id")
     private String category;
     private String description;
     @Version
     private Long version;
-}
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", insertable = false, updatable = false)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Account accountEntry;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", insertable = false, updatable = false)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Category categoryEntry;
+}
@@ -0,0 +1,78 @@
+package com.example.personalfinancetracker.domain;
+
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a page for keyset pagination: the sort key of that row plus its id as a
+ * tiebreaker. Clients only see the opaque Base64 form produced by {@link #encode()}. A {@code null} sort value,
+ * such as a missing category, is encoded without a value part.
+ */
+public record TransactionCursor(String sortBy, Sort.Direction direction, Comparable<?> value, Long id) {
+
+    private static final String SEPARATOR = ",";
+
+    public static TransactionCursor after(Transaction last, Sort.Order order) {
+        return new TransactionCursor(order.getProperty(), order.getDirection(), valueOf(last, order.getProperty()), last.getId());
+    }
+
+    public static TransactionCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR, 4);
+            String sortBy = parts[0];
+            Comparable<?> value = parts.length == 3 ? null : parse(sortBy, parts[3]);
+            return new TransactionCursor(sortBy, Sort.Direction.valueOf(parts[1]), value, Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+
+    public static boolean isSupported(String sortBy) {
+        return switch (sortBy) {
+            case "id", "accountName", "amount", "createdAt", "category" -> true;
+            default -> false;
+        };
+    }
+
+    public String encode() {
+        String raw = sortBy + SEPARATOR + direction.name() + SEPARATOR + id;
+        if (value != null) {
+            raw += SEPARATOR + format(value);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean matches(Sort.Order order) {
+        return sortBy.equals(order.getProperty()) && direction == order.getDirection();
+    }
+
+    private static Comparable<?> valueOf(Transaction transaction, String sortBy) {
+        return switch (sortBy) {
+            case "id" -> transaction.getId();
+            case "accountName" -> transaction.getAccountName();
+            case "amount" -> transaction.getAmount();
+            case "createdAt" -> transaction.getCreatedAt();
+            case "category" -> transaction.getCategory();
+            default -> throw new IllegalArgumentException("Cursor pagination is not supported for sort field: " + sortBy);
+        };
+    }
+
+    private static Comparable<?> parse(String sortBy, String value) {
+        return switch (sortBy) {
+            case "id" -> Long.valueOf(value);
+            case "accountName", "category" -> value;
+            case "amount" -> new BigDecimal(value);
+            case "createdAt" -> LocalDateTime.parse(value);
+            default -> throw new IllegalArgumentException("Cursor pagination is not supported for sort field: " + sortBy);
+        };
+    }
+
+    private static String format(Comparable<?> value) {
+        return value instanceof BigDecimal amount ? amount.toPlainString() : value.toString();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.personalfinancetracker.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Total and count of an account's transactions in one category and period. Kept up to date by the write paths in
+ * {@code TransactionService} so that summaries read one row per group and period.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(
+        columnNames = {"period_type", "period_start", "account_name", "category"}),
+        indexes = @Index(name = "idx_rollup_account_period", columnList = "account_name, period_type, period_start"))
+public class TransactionRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String accountName;
+    private String category;
+    @Enumerated(EnumType.STRING)
+    private RollupPeriod periodType;
+    private LocalDate periodStart;
+    private BigDecimal total;
+    private long transactionCount;
+
+    public TransactionRollup(String accountName, String category, RollupPeriod periodType, LocalDate periodStart,
+                             BigDecimal total, long transactionCount) {
+        this.accountName = accountName;
+        this.category = category;
+        this.periodType = periodType;
+        this.periodStart = periodStart;
+        this.total = total;
+        this.transactionCount = transactionCount;
+    }
+}
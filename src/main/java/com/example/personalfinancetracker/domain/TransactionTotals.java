@@ -0,0 +1,9 @@
+package com.example.personalfinancetracker.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * Number of matching transactions and their summed amount, computed together in one aggregate query.
+ */
+public record TransactionTotals(long count, BigDecimal balance) {
+}
@@ -0,0 +1,14 @@
+package com.example.personalfinancetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+public class BalancePointDTO {
+    private LocalDate date;
+    private BigDecimal balance;
+}
@@ -0,0 +1,14 @@
+package com.example.personalfinancetracker.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+public class BalanceQueryDTO {
+    @NotBlank(message = "Account name is required")
+    private String accountName;
+
+    private LocalDate date;
+}
@@ -0,0 +1,15 @@
+package com.example.personalfinancetracker.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchBalanceRequestDTO {
+    @NotEmpty(message = "At least one balance is required")
+    @Size(max = 500, message = "At most 500 balances can be requested at once")
+    private List<@Valid BalanceQueryDTO> balances;
+}
@@ -0,0 +1,13 @@
+package com.example.personalfinancetracker.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchTransactionRequestDTO {
+    @NotEmpty(message = "At least one transaction is required")
+    private List<@Valid TransactionRequestDTO> transactions;
+}
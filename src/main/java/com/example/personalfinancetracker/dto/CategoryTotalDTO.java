@@ -0,0 +1,13 @@
+package com.example.personalfinancetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+public class CategoryTotalDTO {
+    private String category;
+    private BigDecimal total;
+}
@@ -0,0 +1,11 @@
+package com.example.personalfinancetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ImportErrorDTO {
+    private long row;
+    private String message;
+}
@@ -0,0 +1,12 @@
+package com.example.personalfinancetracker.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ImportResultDTO {
+    private long imported;
+    private long rejected;
+    private List<ImportErrorDTO> errors;
+}
@@ -1,5 +1,6 @@
 package com.example.personalfinancetracker.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 
 import java.math.BigDecimal;
@@ -8,6 +9,13 @@ import java.util.List;
 @Data
 public class PagedTransactionResponseDTO {
     private List<TransactionResponseDTO> transactions;
-    private long totalRecords;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalRecords;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private BigDecimal totalBalance;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean totalsEstimated;
+    private boolean hasNext;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
 }
@@ -0,0 +1,14 @@
+package com.example.personalfinancetracker.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+public class TransactionSummaryDTO {
+    private String group;
+    private LocalDate periodStart;
+    private BigDecimal total;
+    private long count;
+}
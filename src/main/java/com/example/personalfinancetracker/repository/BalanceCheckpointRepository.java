@@ -0,0 +1,43 @@
+package com.example.personalfinancetracker.repository;
+
+import com.example.personalfinancetracker.domain.BalanceCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface BalanceCheckpointRepository extends JpaRepository<BalanceCheckpoint, Long>,
+        CustomBalanceCheckpointRepository {
+    Optional<BalanceCheckpoint> findFirstByAccountNameAndCheckpointDateLessThanEqualOrderByCheckpointDateDesc(
+            String accountName, LocalDate date);
+
+    boolean existsByAccountNameAndCheckpointDate(String accountName, LocalDate checkpointDate);
+
+    /**
+     * Does not clear the persistence context: checkpoints are never read back as managed entities within a write,
+     * and clearing would detach the transactions the caller still holds.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE BalanceCheckpoint c SET c.balance = c.balance + :delta " +
+            "WHERE c.accountName = :accountName AND c.checkpointDate >= :fromDate")
+    int shiftBalancesFrom(
+            @Param("accountName") String accountName,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("delta") BigDecimal delta
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE BalanceCheckpoint c SET c.balance = c.balance + :delta " +
+            "WHERE c.accountName = :accountName AND c.checkpointDate = :date")
+    int shiftBalanceOn(
+            @Param("accountName") String accountName,
+            @Param("date") LocalDate date,
+            @Param("delta") BigDecimal delta
+    );
+}
@@ -0,0 +1,23 @@
+package com.example.personalfinancetracker.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface CustomBalanceCheckpointRepository {
+    /**
+     * Inserts the closing balance of {@code checkpointDate} unless the account already has a checkpoint that day,
+     * including one a concurrent writer committed while this insert waited on the unique key. Returns whether a
+     * row was inserted; never fails on the duplicate, so the caller's transaction stays usable.
+     */
+    boolean insertIfAbsent(String accountName, LocalDate checkpointDate, BigDecimal balance);
+
+    /**
+     * Closing balance of every listed account on each date, as (account name, date, balance) rows, read in one
+     * statement: the nearest checkpoint on or before the date plus the transactions posted after it, or the full sum
+     * when there is no such checkpoint. Accounts without any transaction are absent.
+     */
+    List<Object[]> calculateBalancesAsOf(Map<LocalDate, ? extends Collection<String>> accountNamesByDate);
+}
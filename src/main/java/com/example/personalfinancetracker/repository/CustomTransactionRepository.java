@@ -1,14 +1,22 @@
 package com.example.personalfinancetracker.repository;
 
 import com.example.personalfinancetracker.domain.Transaction;
-import org.springframework.data.domain.Page;
+import com.example.personalfinancetracker.domain.TransactionCursor;
+import com.example.personalfinancetracker.domain.TransactionTotals;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface CustomTransactionRepository {
-    Page<Transaction> findTransactionsByCriteria(String accountName,
+    /**
+     * Loads one row beyond the requested page to tell whether another page follows, without counting.
+     */
+    Slice<Transaction> findTransactionsByCriteria(String accountName,
                                                  BigDecimal minAmount,
                                                  BigDecimal maxAmount,
                                                  LocalDate fromDate,
@@ -17,11 +25,59 @@ public interface CustomTransactionRepository {
                                                  String description,
                                                  Pageable pageable);
 
-    BigDecimal calculateTotalBalanceByCriteria(String accountName,
-                                               BigDecimal minAmount,
-                                               BigDecimal maxAmount,
-                                               LocalDate fromDate,
-                                               LocalDate toDate,
-                                               String category,
-                                               String description);
+    /**
+     * Keyset variant of {@link #findTransactionsByCriteria}: seeks past {@code cursor} (or starts from the
+     * beginning when it is {@code null}) instead of skipping an offset.
+     */
+    List<Transaction> findTransactionsAfterCursor(String accountName,
+                                                  BigDecimal minAmount,
+                                                  BigDecimal maxAmount,
+                                                  LocalDate fromDate,
+                                                  LocalDate toDate,
+                                                  String category,
+                                                  String description,
+                                                  Sort.Order order,
+                                                  TransactionCursor cursor,
+                                                  int limit);
+
+    /**
+     * Streams every matching transaction in {@code sort} order from a forward-only, read-only cursor fetching
+     * {@code fetchSize} rows per round trip. Rows bypass the second-level cache, so a full export neither reads
+     * from nor displaces the cached entities. The stream must be consumed and closed inside a transaction.
+     */
+    Stream<Transaction> streamTransactionsByCriteria(String accountName,
+                                                     BigDecimal minAmount,
+                                                     BigDecimal maxAmount,
+                                                     LocalDate fromDate,
+                                                     LocalDate toDate,
+                                                     String category,
+                                                     String description,
+                                                     Sort sort,
+                                                     int fetchSize);
+
+    /**
+     * Counts and sums the matching transactions in a single aggregate query.
+     */
+    TransactionTotals calculateTotalsByCriteria(String accountName,
+                                                BigDecimal minAmount,
+                                                BigDecimal maxAmount,
+                                                LocalDate fromDate,
+                                                LocalDate toDate,
+                                                String category,
+                                                String description);
+
+    /**
+     * Exact count when fewer than {@code limit} transactions match. Otherwise an estimate that reads three rows:
+     * the first, the {@code limit}-th and the last match in creation order. {@code limit} is scaled by the share of
+     * the matching time span that the first {@code limit} rows cover, assuming matches are spread evenly over it.
+     * Never less than {@code limit}.
+     */
+    long estimateCountByCriteria(String accountName,
+                                 BigDecimal minAmount,
+                                 BigDecimal maxAmount,
+                                 LocalDate fromDate,
+                                 LocalDate toDate,
+                                 String category,
+                                 String description,
+                                 int limit);
 }
@@ -0,0 +1,13 @@
+package com.example.personalfinancetracker.repository;
+
+import com.example.personalfinancetracker.domain.RollupChange;
+
+import java.util.List;
+
+public interface CustomTransactionRollupRepository {
+    /**
+     * Adds every change to its rollup row, creating the row on first use, in one batch of upserts. Changes whose
+     * row a concurrent writer created first are retried once and then add to it.
+     */
+    void applyDeltas(List<RollupChange> changes);
+}
@@ -7,18 +7,46 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
-    List<Transaction> findByAccountName(String accountName);
+    boolean existsByAccountName(String accountName);
+
+    @Query("SELECT DISTINCT t.accountName FROM Transaction t")
+    List<String> findDistinctAccountNames();
+
+    @Query("SELECT t.id, t.description FROM Transaction t WHERE t.description IS NOT NULL")
+    Stream<Object[]> streamDescriptions();
+
+    @Query("SELECT t.createdAt, t.amount FROM Transaction t " +
+            "WHERE t.accountName = :accountName AND t.createdAt >= :from AND t.createdAt < :to " +
+            "ORDER BY t.createdAt")
+    Stream<Object[]> streamAmountsForAccount(
+            @Param("accountName") String accountName,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    @Query("SELECT t.createdAt, t.amount, t.category FROM Transaction t " +
+            "WHERE t.accountName = :accountName ORDER BY t.createdAt")
+    Stream<Object[]> streamColumnsForAccount(@Param("accountName") String accountName);
 
     @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t " +
-            "WHERE t.accountName = :accountName AND CAST(t.createdAt AS date) <= :date")
+            "WHERE t.accountName = :accountName AND t.createdAt < :before")
     BigDecimal calculateBalanceForAccount(
             @Param("accountName") String accountName,
-            @Param("date") LocalDate date
+            @Param("before") LocalDateTime before
+    );
+
+    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t " +
+            "WHERE t.accountName = :accountName AND t.createdAt >= :from AND t.createdAt < :to")
+    BigDecimal calculateBalanceChangeForAccount(
+            @Param("accountName") String accountName,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
     );
 }
 
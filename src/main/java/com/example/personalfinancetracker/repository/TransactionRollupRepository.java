@@ -0,0 +1,73 @@
+package com.example.personalfinancetracker.repository;
+
+import com.example.personalfinancetracker.domain.RollupPeriod;
+import com.example.personalfinancetracker.domain.RollupSummary;
+import com.example.personalfinancetracker.domain.TransactionRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TransactionRollupRepository extends JpaRepository<TransactionRollup, Long>,
+        CustomTransactionRollupRepository {
+
+    @Query("SELECT new com.example.personalfinancetracker.domain.RollupSummary(" +
+            "r.category, r.periodStart, SUM(r.total), SUM(r.transactionCount)) " +
+            "FROM TransactionRollup r " +
+            "WHERE r.periodType = :periodType AND r.periodStart >= :from AND r.periodStart <= :to " +
+            "GROUP BY r.category, r.periodStart " +
+            "HAVING SUM(r.transactionCount) > 0 " +
+            "ORDER BY r.periodStart, r.category")
+    List<RollupSummary> summarizeByCategory(
+            @Param("periodType") RollupPeriod periodType,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    @Query("SELECT new com.example.personalfinancetracker.domain.RollupSummary(" +
+            "r.category, r.periodStart, SUM(r.total), SUM(r.transactionCount)) " +
+            "FROM TransactionRollup r " +
+            "WHERE r.accountName = :accountName AND r.periodType = :periodType " +
+            "AND r.periodStart >= :from AND r.periodStart <= :to " +
+            "GROUP BY r.category, r.periodStart " +
+            "HAVING SUM(r.transactionCount) > 0 " +
+            "ORDER BY r.periodStart, r.category")
+    List<RollupSummary> summarizeByCategoryForAccount(
+            @Param("accountName") String accountName,
+            @Param("periodType") RollupPeriod periodType,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    @Query("SELECT new com.example.personalfinancetracker.domain.RollupSummary(" +
+            "r.accountName, r.periodStart, SUM(r.total), SUM(r.transactionCount)) " +
+            "FROM TransactionRollup r " +
+            "WHERE r.periodType = :periodType AND r.periodStart >= :from AND r.periodStart <= :to " +
+            "GROUP BY r.accountName, r.periodStart " +
+            "HAVING SUM(r.transactionCount) > 0 " +
+            "ORDER BY r.periodStart, r.accountName")
+    List<RollupSummary> summarizeByAccount(
+            @Param("periodType") RollupPeriod periodType,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    @Query("SELECT new com.example.personalfinancetracker.domain.RollupSummary(" +
+            "r.accountName, r.periodStart, SUM(r.total), SUM(r.transactionCount)) " +
+            "FROM TransactionRollup r " +
+            "WHERE r.accountName = :accountName AND r.periodType = :periodType " +
+            "AND r.periodStart >= :from AND r.periodStart <= :to " +
+            "GROUP BY r.accountName, r.periodStart " +
+            "HAVING SUM(r.transactionCount) > 0 " +
+            "ORDER BY r.periodStart")
+    List<RollupSummary> summarizeByAccountForAccount(
+            @Param("accountName") String accountName,
+            @Param("periodType") RollupPeriod periodType,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+}
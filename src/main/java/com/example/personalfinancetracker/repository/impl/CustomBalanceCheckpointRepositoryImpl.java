@@ -0,0 +1,72 @@
+package com.example.personalfinancetracker.repository.impl;
+
+import com.example.personalfinancetracker.repository.CustomBalanceCheckpointRepository;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts checkpoints through the write transaction's JDBC connection, so that losing the race for a day's
+ * checkpoint surfaces as a caught duplicate key instead of a JPA exception that dooms the transaction.
+ */
+@Repository
+public class CustomBalanceCheckpointRepositoryImpl implements CustomBalanceCheckpointRepository {
+
+    private static final String INSERT_IF_ABSENT = "MERGE INTO balance_checkpoint c "
+            + "USING (VALUES (CAST(? AS VARCHAR), CAST(? AS DATE))) AS s(account_name, checkpoint_date) "
+            + "ON c.account_name = s.account_name AND c.checkpoint_date = s.checkpoint_date "
+            + "WHEN NOT MATCHED THEN INSERT (account_name, checkpoint_date, balance) "
+            + "VALUES (s.account_name, s.checkpoint_date, ?)";
+
+    private static final String BALANCES_AS_OF = "SELECT q.account_name, q.as_of, CASE WHEN c.id IS NULL "
+            + "THEN COALESCE((SELECT SUM(t.amount) FROM transaction t "
+            + "WHERE t.account_id = a.id AND t.created_at < q.day_end), 0) "
+            + "ELSE c.balance + COALESCE((SELECT SUM(t.amount) FROM transaction t WHERE t.account_id = a.id "
+            + "AND t.created_at >= c.checkpoint_date + INTERVAL '1' DAY AND t.created_at < q.day_end), 0) END "
+            + "FROM (VALUES %s) AS q(account_name, as_of, day_end) "
+            + "JOIN account a ON a.name = q.account_name "
+            + "LEFT JOIN balance_checkpoint c ON c.account_name = q.account_name AND c.checkpoint_date = "
+            + "(SELECT MAX(m.checkpoint_date) FROM balance_checkpoint m "
+            + "WHERE m.account_name = q.account_name AND m.checkpoint_date <= q.as_of) "
+            + "WHERE EXISTS (SELECT 1 FROM transaction e WHERE e.account_id = a.id)";
+    private static final String BALANCE_QUERY_ROW = "(CAST(? AS VARCHAR), CAST(? AS DATE), CAST(? AS TIMESTAMP))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CustomBalanceCheckpointRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean insertIfAbsent(String accountName, LocalDate checkpointDate, BigDecimal balance) {
+        try {
+            return jdbcTemplate.update(INSERT_IF_ABSENT, accountName, checkpointDate, balance) > 0;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public List<Object[]> calculateBalancesAsOf(Map<LocalDate, ? extends Collection<String>> accountNamesByDate) {
+        List<Object> args = new ArrayList<>();
+        accountNamesByDate.forEach((date, accountNames) -> accountNames.forEach(accountName -> {
+            args.add(accountName);
+            args.add(date);
+            args.add(date.plusDays(1).atStartOfDay());
+        }));
+        if (args.isEmpty()) {
+            return List.of();
+        }
+        String rows = String.join(", ", Collections.nCopies(args.size() / 3, BALANCE_QUERY_ROW));
+        return jdbcTemplate.query(BALANCES_AS_OF.formatted(rows), (rs, rowNum) -> new Object[]{
+                rs.getString(1), rs.getObject(2, LocalDate.class), rs.getBigDecimal(3)}, args.toArray());
+    }
+}
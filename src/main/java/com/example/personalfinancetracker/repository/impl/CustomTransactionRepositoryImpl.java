@@ -1,29 +1,63 @@
 package com.example.personalfinancetracker.repository.impl;
 
+import com.example.personalfinancetracker.cache.DescriptionTrigramIndex;
 import com.example.personalfinancetracker.domain.Transaction;
+import com.example.personalfinancetracker.domain.TransactionCursor;
+import com.example.personalfinancetracker.domain.TransactionTotals;
 import com.example.personalfinancetracker.repository.CustomTransactionRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.*;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static com.example.personalfinancetracker.domain.TransactionCriteriaField.*;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_MODE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
+@Timed(value = "finance.repository.query", percentiles = {0.5, 0.95, 0.99})
 public class CustomTransactionRepositoryImpl implements CustomTransactionRepository {
 
+    /** Query cache region for search pages, which hold transaction ids resolved through the entity region. */
+    public static final String SEARCH_REGION = "transaction-search";
+    /** Query cache region for search counts and balances. */
+    public static final String TOTALS_REGION = "transaction-totals";
+
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final Map<String, String> DICTIONARY_ASSOCIATIONS = Map.of(
+            ACCOUNT_NAME.getFieldName(), "accountEntry",
+            CATEGORY.getFieldName(), "categoryEntry");
+
     private final EntityManager entityManager;
+    private final DescriptionTrigramIndex descriptionTrigramIndex;
 
-    public CustomTransactionRepositoryImpl(EntityManager entityManager) {
+    public CustomTransactionRepositoryImpl(EntityManager entityManager, DescriptionTrigramIndex descriptionTrigramIndex) {
         this.entityManager = entityManager;
+        this.descriptionTrigramIndex = descriptionTrigramIndex;
     }
 
     private Predicate[] buildPredicates(CriteriaBuilder cb, Root<Transaction> root,
@@ -41,22 +75,24 @@ public class CustomTransactionRepositoryImpl implements CustomTransactionReposit
             predicates.add(cb.le(root.get(AMOUNT.getFieldName()), maxAmount));
         }
         if (fromDate != null) {
-            predicates.add(cb.greaterThanOrEqualTo(root.get(CREATED_AT.getFieldName()).as(LocalDate.class), fromDate));
+            predicates.add(cb.greaterThanOrEqualTo(root.get(CREATED_AT.getFieldName()), fromDate.atStartOfDay()));
         }
         if (toDate != null) {
-            predicates.add(cb.lessThanOrEqualTo(root.get(CREATED_AT.getFieldName()).as(LocalDate.class), toDate));
+            predicates.add(cb.lessThan(root.get(CREATED_AT.getFieldName()), toDate.plusDays(1).atStartOfDay()));
         }
         if (category != null) {
             predicates.add(cb.equal(root.get(CATEGORY.getFieldName()), category));
         }
         if (description != null) {
+            descriptionTrigramIndex.candidates(description).ifPresent(ids ->
+                    predicates.add(ids.isEmpty() ? cb.disjunction() : root.get(ID).in(ids)));
             predicates.add(cb.like(cb.lower(root.get(DESCRIPTION.getFieldName())), "%" + description.toLowerCase() + "%"));
         }
         return predicates.toArray(new Predicate[0]);
     }
 
     @Override
-    public Page<Transaction> findTransactionsByCriteria(String accountName, BigDecimal minAmount, BigDecimal maxAmount,
+    public Slice<Transaction> findTransactionsByCriteria(String accountName, BigDecimal minAmount, BigDecimal maxAmount,
                                                         LocalDate fromDate, LocalDate toDate, String category,
                                                         String description, Pageable pageable) {
         CriteriaBuilder cb = entityManager.getCriteriaBuilder();
@@ -66,39 +102,196 @@ public class CustomTransactionRepositoryImpl implements CustomTransactionReposit
         cq.where(predicates);
 
         if (pageable.getSort().isSorted()) {
-            List<Order> orders = new ArrayList<>();
-            pageable.getSort().forEach(order -> {
-                if (order.isAscending()) {
-                    orders.add(cb.asc(root.get(order.getProperty())));
-                } else {
-                    orders.add(cb.desc(root.get(order.getProperty())));
-                }
-            });
-            cq.orderBy(orders);
-        }
-
-        TypedQuery<Transaction> query = entityManager.createQuery(cq);
+            cq.orderBy(buildOrders(cb, root, pageable.getSort()));
+        }
+
+        TypedQuery<Transaction> query = cacheable(entityManager.createQuery(cq), SEARCH_REGION, description);
         query.setFirstResult((int) pageable.getOffset());
-        query.setMaxResults(pageable.getPageSize());
+        query.setMaxResults(pageable.getPageSize() + 1);
         List<Transaction> resultList = query.getResultList();
 
-        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
-        Root<Transaction> countRoot = countQuery.from(Transaction.class);
-        countQuery.select(cb.count(countRoot)).where(buildPredicates(cb, countRoot, accountName, minAmount, maxAmount, fromDate, toDate, category, description));
-        Long total = entityManager.createQuery(countQuery).getSingleResult();
+        boolean hasNext = resultList.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? resultList.subList(0, pageable.getPageSize()) : resultList, pageable, hasNext);
+    }
+
+    @Override
+    public List<Transaction> findTransactionsAfterCursor(String accountName, BigDecimal minAmount, BigDecimal maxAmount,
+                                                         LocalDate fromDate, LocalDate toDate, String category,
+                                                         String description, Sort.Order order,
+                                                         TransactionCursor cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Transaction> cq = cb.createQuery(Transaction.class);
+        Root<Transaction> root = cq.from(Transaction.class);
+        List<Predicate> predicates = new ArrayList<>(List.of(
+                buildPredicates(cb, root, accountName, minAmount, maxAmount, fromDate, toDate, category, description)));
+        if (cursor != null) {
+            predicates.add(buildSeekPredicate(cb, root, cursor));
+        }
+        cq.where(predicates.toArray(new Predicate[0]));
+        cq.orderBy(buildOrders(cb, root, Sort.by(order)));
+
+        return cacheable(entityManager.createQuery(cq), SEARCH_REGION, description)
+                .setMaxResults(limit)
+                .getResultList();
+    }
 
-        return new PageImpl<>(resultList, pageable, total);
+    @Override
+    public Stream<Transaction> streamTransactionsByCriteria(String accountName, BigDecimal minAmount, BigDecimal maxAmount,
+                                                            LocalDate fromDate, LocalDate toDate, String category,
+                                                            String description, Sort sort, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Transaction> cq = cb.createQuery(Transaction.class);
+        Root<Transaction> root = cq.from(Transaction.class);
+        cq.where(buildPredicates(cb, root, accountName, minAmount, maxAmount, fromDate, toDate, category, description));
+        cq.orderBy(buildOrders(cb, root, sort));
+
+        // The query's cache mode only covers its execution; rows read from the stream later load under the
+        // session's mode, so that is switched for as long as the stream is open.
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        try {
+            return entityManager.createQuery(cq)
+                    .setHint(HINT_FETCH_SIZE, fetchSize)
+                    .setHint(HINT_READ_ONLY, true)
+                    .setHint(HINT_CACHE_MODE, CacheMode.IGNORE)
+                    .getResultStream()
+                    .onClose(() -> session.setCacheMode(previousCacheMode));
+        } catch (RuntimeException e) {
+            session.setCacheMode(previousCacheMode);
+            throw e;
+        }
     }
 
     @Override
-    public BigDecimal calculateTotalBalanceByCriteria(String accountName, BigDecimal minAmount, BigDecimal maxAmount,
-                                                      LocalDate fromDate, LocalDate toDate, String category,
-                                                      String description) {
+    public TransactionTotals calculateTotalsByCriteria(String accountName, BigDecimal minAmount, BigDecimal maxAmount,
+                                                       LocalDate fromDate, LocalDate toDate, String category,
+                                                       String description) {
         CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<BigDecimal> cq = cb.createQuery(BigDecimal.class);
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
         Root<Transaction> root = cq.from(Transaction.class);
         Predicate[] predicates = buildPredicates(cb, root, accountName, minAmount, maxAmount, fromDate, toDate, category, description);
-        cq.select(cb.coalesce(cb.sum(root.get(AMOUNT.getFieldName())), BigDecimal.ZERO)).where(predicates);
-        return entityManager.createQuery(cq).getSingleResult();
+        Expression<Long> count = cb.count(root);
+        Expression<BigDecimal> balance = cb.coalesce(cb.sum(root.get(AMOUNT.getFieldName())), BigDecimal.ZERO);
+        cq.multiselect(count, balance).where(predicates);
+        Tuple totals = cacheable(entityManager.createQuery(cq), TOTALS_REGION, description).getSingleResult();
+        return new TransactionTotals(totals.get(count), totals.get(balance));
+    }
+
+    @Override
+    public long estimateCountByCriteria(String accountName, BigDecimal minAmount, BigDecimal maxAmount,
+                                        LocalDate fromDate, LocalDate toDate, String category,
+                                        String description, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        Function<Root<Transaction>, Predicate[]> where = root ->
+                buildPredicates(cb, root, accountName, minAmount, maxAmount, fromDate, toDate, category, description);
+
+        Optional<LocalDateTime> atLimit = matchCreatedAt(cb, where, true, limit - 1);
+        if (atLimit.isEmpty()) {
+            CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+            Root<Transaction> root = cq.from(Transaction.class);
+            cq.select(cb.count(root)).where(where.apply(root));
+            return entityManager.createQuery(cq).getSingleResult();
+        }
+        LocalDateTime first = matchCreatedAt(cb, where, true, 0).orElseThrow();
+        LocalDateTime last = matchCreatedAt(cb, where, false, 0).orElseThrow();
+        long covered = Duration.between(first, atLimit.get()).toSeconds();
+        if (covered == 0) {
+            return limit;
+        }
+        double span = Duration.between(first, last).toSeconds();
+        return Math.max(limit, Math.round(limit * span / covered));
+    }
+
+    /**
+     * Creation time of the matching row at {@code offset} in creation order, read through the
+     * {@code (..., created_at)} indexes.
+     */
+    private Optional<LocalDateTime> matchCreatedAt(CriteriaBuilder cb, Function<Root<Transaction>, Predicate[]> where,
+                                                   boolean ascending, int offset) {
+        CriteriaQuery<LocalDateTime> cq = cb.createQuery(LocalDateTime.class);
+        Root<Transaction> root = cq.from(Transaction.class);
+        Path<LocalDateTime> createdAt = root.get(CREATED_AT.getFieldName());
+        cq.select(createdAt).where(where.apply(root)).orderBy(ascending ? cb.asc(createdAt) : cb.desc(createdAt));
+        return entityManager.createQuery(cq)
+                .setFirstResult(offset)
+                .setMaxResults(1)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Marks searches without a description term as cacheable in {@code region}. Hibernate drops their results
+     * whenever a transaction is written. Description searches are left out: they embed the trigram candidate ids,
+     * so their keys are large and rarely repeat.
+     */
+    private static <T> TypedQuery<T> cacheable(TypedQuery<T> query, String region, String description) {
+        if (description == null) {
+            query.setHint(HINT_CACHEABLE, true);
+            query.setHint(HINT_CACHE_REGION, region);
+        }
+        return query;
+    }
+
+    /**
+     * Orders by the requested properties and then by id, so rows with equal sort keys keep a stable order
+     * across pages. Nulls sort lowest whatever the database default, as {@link #buildSeekPredicate} expects.
+     */
+    private List<Order> buildOrders(CriteriaBuilder cb, Root<Transaction> root, Sort sort) {
+        List<Order> orders = new ArrayList<>();
+        Sort.Direction tiebreakDirection = Sort.Direction.ASC;
+        for (Sort.Order order : sort) {
+            Expression<?> key = sortKey(root, order.getProperty());
+            orders.add(order.isAscending()
+                    ? ((HibernateCriteriaBuilder) cb).asc(key, true)
+                    : ((HibernateCriteriaBuilder) cb).desc(key, false));
+            tiebreakDirection = order.getDirection();
+        }
+        if (sort.getOrderFor(ID) == null) {
+            orders.add(tiebreakDirection.isAscending() ? cb.asc(root.get(ID)) : cb.desc(root.get(ID)));
+        }
+        return orders;
+    }
+
+    /**
+     * {@code (sortKey, id) > (value, lastId)} for ascending order, {@code <} for descending, written out so the
+     * database can seek on an index over the sort key. Null keys sort lowest: they come before every value going
+     * up and after every value going down.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate buildSeekPredicate(CriteriaBuilder cb, Root<Transaction> root, TransactionCursor cursor) {
+        Expression<Comparable> key = (Expression<Comparable>) sortKey(root, cursor.sortBy());
+        Path<Long> id = root.get(ID);
+        Comparable value = cursor.value();
+        if (ID.equals(cursor.sortBy())) {
+            return cursor.direction().isAscending() ? cb.greaterThan(id, cursor.id()) : cb.lessThan(id, cursor.id());
+        }
+        boolean ascending = cursor.direction().isAscending();
+        Predicate afterId = ascending ? cb.greaterThan(id, cursor.id()) : cb.lessThan(id, cursor.id());
+        if (value == null) {
+            Predicate afterInNulls = cb.and(cb.isNull(key), afterId);
+            return ascending ? cb.or(afterInNulls, cb.isNotNull(key)) : afterInNulls;
+        }
+        if (ascending) {
+            return cb.or(cb.greaterThan(key, value), cb.and(cb.equal(key, value), afterId));
+        }
+        return cb.or(cb.lessThan(key, value), cb.and(cb.equal(key, value), afterId), cb.isNull(key));
+    }
+
+    /**
+     * Account and category columns hold dictionary ids, so ordering by them goes through the dictionary name.
+     * The join is shared between the order and the seek predicate of a query.
+     */
+    private Expression<?> sortKey(Root<Transaction> root, String property) {
+        String association = DICTIONARY_ASSOCIATIONS.get(property);
+        if (association == null) {
+            return root.get(property);
+        }
+        Join<Transaction, ?> join = root.getJoins().stream()
+                .filter(existing -> existing.getAttribute().getName().equals(association))
+                .findFirst()
+                .orElseGet(() -> root.join(association, JoinType.LEFT));
+        return join.get(NAME);
     }
 }
@@ -0,0 +1,72 @@
+package com.example.personalfinancetracker.repository.impl;
+
+import com.example.personalfinancetracker.domain.RollupChange;
+import com.example.personalfinancetracker.repository.CustomTransactionRollupRepository;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends rollup changes as one JDBC batch on the write transaction's connection. The amount and count are bound
+ * straight into the update and insert, so they take the column types. A duplicate key only fails the statements
+ * of rows another transaction created concurrently; those are sent again on their own.
+ */
+@Repository
+public class CustomTransactionRollupRepositoryImpl implements CustomTransactionRollupRepository {
+
+    private static final String UPSERT = "MERGE INTO transaction_rollup r "
+            + "USING (VALUES (CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS DATE))) "
+            + "AS s(account_name, category, period_type, period_start) "
+            + "ON r.period_type = s.period_type AND r.period_start = s.period_start "
+            + "AND r.account_name = s.account_name AND r.category IS NOT DISTINCT FROM s.category "
+            + "WHEN MATCHED THEN UPDATE SET total = r.total + ?, transaction_count = r.transaction_count + ? "
+            + "WHEN NOT MATCHED THEN INSERT (account_name, category, period_type, period_start, total, transaction_count) "
+            + "VALUES (s.account_name, s.category, s.period_type, s.period_start, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CustomTransactionRollupRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void applyDeltas(List<RollupChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = changes.stream().map(CustomTransactionRollupRepositoryImpl::toArgs).toList();
+        try {
+            jdbcTemplate.batchUpdate(UPSERT, args);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.batchUpdate(UPSERT, failed(args, e));
+        }
+    }
+
+    private static Object[] toArgs(RollupChange change) {
+        return new Object[]{change.accountName(), change.category(), change.periodType().name(),
+                change.periodStart(), change.amount(), change.count(), change.amount(), change.count()};
+    }
+
+    /**
+     * The arguments of the statements that did not run. Drivers that stop at the first failure report fewer update
+     * counts than statements, so everything after the last count is included as well.
+     */
+    private static List<Object[]> failed(List<Object[]> args, DuplicateKeyException e) {
+        if (!(e.getCause() instanceof BatchUpdateException batch)) {
+            throw e;
+        }
+        int[] counts = batch.getUpdateCounts();
+        List<Object[]> failed = new ArrayList<>();
+        for (int i = 0; i < args.size(); i++) {
+            if (i >= counts.length || counts[i] == Statement.EXECUTE_FAILED) {
+                failed.add(args.get(i));
+            }
+        }
+        return failed;
+    }
+}
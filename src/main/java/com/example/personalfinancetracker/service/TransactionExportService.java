@@ -0,0 +1,118 @@
+package com.example.personalfinancetracker.service;
+
+import com.example.personalfinancetracker.config.FinanceExportProperties;
+import com.example.personalfinancetracker.domain.ExportFormat;
+import com.example.personalfinancetracker.domain.Transaction;
+import com.example.personalfinancetracker.domain.TransactionCursor;
+import com.example.personalfinancetracker.dto.TransactionResponseDTO;
+import com.example.personalfinancetracker.dto.TransactionSearchCriteriaDTO;
+import com.example.personalfinancetracker.mapper.TransactionMapper;
+import com.example.personalfinancetracker.repository.CustomTransactionRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes search results straight to an output stream. Rows are read from a forward-only cursor, written one at a
+ * time and detached from the persistence context, so memory use does not depend on the number of rows exported.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionExportService.class);
+
+    private static final String NDJSON_SEPARATOR = "\n";
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.builder()
+            .addColumn("id")
+            .addColumn("accountName")
+            .addColumn("amount")
+            .addColumn("createdAt")
+            .addColumn("updatedAt")
+            .addColumn("category")
+            .addColumn("description")
+            .build()
+            .withHeader();
+
+    private final CustomTransactionRepository customTransactionRepository;
+    private final TransactionMapper transactionMapper;
+    private final ObjectMapper objectMapper;
+    private final FinanceExportProperties exportProperties;
+    private final EntityManager entityManager;
+
+    /**
+     * Checks the parameters before any output is written; once streaming has started errors can no longer be
+     * turned into an error response.
+     */
+    public Sort exportSort(String sortBy, String sortDir) {
+        if (!TransactionCursor.isSupported(sortBy)) {
+            throw new IllegalArgumentException("Export is not supported for sort field: " + sortBy);
+        }
+        return sortDir.equalsIgnoreCase("desc")
+                ? Sort.by(sortBy).descending()
+                : Sort.by(sortBy).ascending();
+    }
+
+    @Transactional(readOnly = true)
+    public long exportTransactions(TransactionSearchCriteriaDTO criteria, Sort sort, ExportFormat format,
+                                   OutputStream out) throws IOException {
+        log.info("Exporting transactions as {} - account: {}", format, criteria.getAccountName());
+        ObjectWriter writer = (format == ExportFormat.CSV
+                ? CSV_MAPPER.writer(CSV_SCHEMA)
+                : objectMapper.writer().withRootValueSeparator(NDJSON_SEPARATOR))
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        long exported = 0;
+        try (Stream<Transaction> rows = customTransactionRepository.streamTransactionsByCriteria(
+                criteria.getAccountName(),
+                criteria.getMinAmount(),
+                criteria.getMaxAmount(),
+                criteria.getFromDate(),
+                criteria.getToDate(),
+                criteria.getCategory(),
+                criteria.getDescription(),
+                sort,
+                exportProperties.getFetchSize());
+             SequenceWriter sequence = writer.writeValues(out)) {
+            Iterator<Transaction> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Transaction transaction = iterator.next();
+                TransactionResponseDTO dto = transactionMapper.toDTO(transaction);
+                entityManager.detach(transaction);
+                sequence.write(dto);
+                exported++;
+            }
+        }
+        if (format == ExportFormat.NDJSON && exported > 0) {
+            out.write(NDJSON_SEPARATOR.getBytes(StandardCharsets.UTF_8));
+        }
+        out.flush();
+        log.info("Export finished - rows: {}", exported);
+        return exported;
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.personalfinancetracker.service;
+
+import com.example.personalfinancetracker.config.FinanceIngestProperties;
+import com.example.personalfinancetracker.dto.ImportErrorDTO;
+import com.example.personalfinancetracker.dto.ImportResultDTO;
+import com.example.personalfinancetracker.dto.TransactionRequestDTO;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports statement exports row by row. Valid rows are committed through
+ * {@link TransactionService#addTransactions(List)} every {@code finance.ingest.chunk-size} rows, so heap usage
+ * does not depend on the size of the upload. Chunks committed before a failure stay committed.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionImportService.class);
+
+    private static final ObjectReader CSV_READER = new CsvMapper()
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .readerFor(TransactionRequestDTO.class)
+            .with(CsvSchema.emptySchema().withHeader());
+
+    private final TransactionService transactionService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final FinanceIngestProperties ingestProperties;
+
+    /**
+     * Reads a CSV export with a header row naming {@code accountName}, {@code amount}, {@code category} and
+     * {@code description}. Other columns are ignored. Rows are numbered from 1, excluding the header.
+     */
+    public ImportResultDTO importCsv(InputStream body) throws IOException {
+        log.info("Importing transactions from CSV");
+        ImportRun run = new ImportRun();
+        try (MappingIterator<TransactionRequestDTO> rows = CSV_READER.readValues(body)) {
+            long row = 0;
+            while (true) {
+                row++;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    run.accept(row, rows.nextValue());
+                } catch (JsonParseException e) {
+                    run.reject(row, "Malformed CSV, import stopped: " + e.getOriginalMessage());
+                    break;
+                } catch (JsonProcessingException e) {
+                    run.reject(row, e.getOriginalMessage());
+                }
+            }
+        }
+        return run.finish();
+    }
+
+    /**
+     * Reads newline-delimited JSON, one transaction object per line. Blank lines are skipped; rows are
+     * numbered by line.
+     */
+    public ImportResultDTO importNdjson(InputStream body) throws IOException {
+        log.info("Importing transactions from NDJSON");
+        ImportRun run = new ImportRun();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            long row = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                row++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    run.accept(row, objectMapper.readValue(line, TransactionRequestDTO.class));
+                } catch (JsonProcessingException e) {
+                    run.reject(row, e.getOriginalMessage());
+                }
+            }
+        }
+        return run.finish();
+    }
+
+    private class ImportRun {
+        private final int chunkSize = ingestProperties.getChunkSize();
+        private final List<TransactionRequestDTO> chunk = new ArrayList<>(chunkSize);
+        private final List<ImportErrorDTO> errors = new ArrayList<>();
+        private long imported;
+        private long rejected;
+
+        void accept(long row, TransactionRequestDTO requestDTO) {
+            Set<ConstraintViolation<TransactionRequestDTO>> violations = validator.validate(requestDTO);
+            if (!violations.isEmpty()) {
+                reject(row, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+                return;
+            }
+            chunk.add(requestDTO);
+            if (chunk.size() == chunkSize) {
+                commitChunk();
+            }
+        }
+
+        void reject(long row, String message) {
+            rejected++;
+            if (errors.size() < ingestProperties.getMaxReportedErrors()) {
+                errors.add(new ImportErrorDTO(row, message));
+            }
+        }
+
+        ImportResultDTO finish() {
+            commitChunk();
+            log.info("Import finished - imported: {}, rejected: {}", imported, rejected);
+            ImportResultDTO result = new ImportResultDTO();
+            result.setImported(imported);
+            result.setRejected(rejected);
+            result.setErrors(errors);
+            return result;
+        }
+
+        private void commitChunk() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            transactionService.addTransactions(chunk);
+            imported += chunk.size();
+            chunk.clear();
+        }
+    }
+}
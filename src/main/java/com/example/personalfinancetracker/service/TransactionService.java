@@ -1,21 +1,49 @@
 package com.example.personalfinancetracker.service;
 
+import com.example.personalfinancetracker.cache.AccountNameFilter;
+import com.example.personalfinancetracker.cache.BalanceCacheEvictor;
+import com.example.personalfinancetracker.cache.ColumnarAnalyticsEngine;
+import com.example.personalfinancetracker.config.FinanceIngestProperties;
+import com.example.personalfinancetracker.config.FinanceMoneyProperties;
+import com.example.personalfinancetracker.config.MetricsConfig;
+import com.example.personalfinancetracker.config.FinanceSearchProperties;
+import com.example.personalfinancetracker.domain.BalanceSeriesStep;
+import com.example.personalfinancetracker.domain.Money;
+import com.example.personalfinancetracker.domain.MoneyAccumulator;
+import com.example.personalfinancetracker.domain.RollupChange;
+import com.example.personalfinancetracker.domain.RollupPeriod;
+import com.example.personalfinancetracker.domain.RollupSummary;
+import com.example.personalfinancetracker.domain.SummaryGroupBy;
+import com.example.personalfinancetracker.domain.TotalsMode;
 import com.example.personalfinancetracker.domain.Transaction;
+import com.example.personalfinancetracker.domain.TransactionCursor;
+import com.example.personalfinancetracker.domain.TransactionTotals;
+import com.example.personalfinancetracker.dto.AccountBalanceDTO;
+import com.example.personalfinancetracker.dto.BalancePointDTO;
+import com.example.personalfinancetracker.dto.BalanceQueryDTO;
+import com.example.personalfinancetracker.dto.CategoryTotalDTO;
 import com.example.personalfinancetracker.dto.PagedTransactionResponseDTO;
 import com.example.personalfinancetracker.dto.TransactionRequestDTO;
 import com.example.personalfinancetracker.dto.TransactionResponseDTO;
 import com.example.personalfinancetracker.dto.TransactionSearchCriteriaDTO;
+import com.example.personalfinancetracker.dto.TransactionSummaryDTO;
 import com.example.personalfinancetracker.exception.TransactionNotFoundException;
 import com.example.personalfinancetracker.mapper.TransactionMapper;
+import com.example.personalfinancetracker.repository.BalanceCheckpointRepository;
 import com.example.personalfinancetracker.repository.CustomTransactionRepository;
 import com.example.personalfinancetracker.repository.TransactionRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.personalfinancetracker.repository.TransactionRollupRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,11 +51,26 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.example.personalfinancetracker.domain.TransactionCriteriaField.CREATED_AT;
 
 @Service
-@RequiredArgsConstructor
+@Timed(value = "finance.service", percentiles = {0.5, 0.95, 0.99})
 public class TransactionService {
 
     private static final Logger log = LoggerFactory.getLogger(TransactionService.class);
@@ -35,39 +78,280 @@ public class TransactionService {
     private final TransactionRepository transactionRepository;
     private final CustomTransactionRepository customTransactionRepository;
     private final TransactionMapper transactionMapper;
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
+    private final TransactionRollupRepository transactionRollupRepository;
+    private final BalanceCacheEvictor balanceCacheEvictor;
+    private final CacheManager cacheManager;
+    private final AccountNameFilter accountNameFilter;
+    private final ColumnarAnalyticsEngine analyticsEngine;
+    private final FinanceSearchProperties searchProperties;
+    private final FinanceIngestProperties ingestProperties;
+    private final FinanceMoneyProperties moneyProperties;
+    private final EntityManager entityManager;
+    private final DistributionSummary searchRows;
+
+    public TransactionService(TransactionRepository transactionRepository,
+                              CustomTransactionRepository customTransactionRepository,
+                              TransactionMapper transactionMapper,
+                              BalanceCheckpointRepository balanceCheckpointRepository,
+                              TransactionRollupRepository transactionRollupRepository,
+                              BalanceCacheEvictor balanceCacheEvictor,
+                              CacheManager cacheManager,
+                              AccountNameFilter accountNameFilter,
+                              ColumnarAnalyticsEngine analyticsEngine,
+                              FinanceSearchProperties searchProperties,
+                              FinanceIngestProperties ingestProperties,
+                              FinanceMoneyProperties moneyProperties,
+                              EntityManager entityManager,
+                              MeterRegistry meterRegistry) {
+        this.transactionRepository = transactionRepository;
+        this.customTransactionRepository = customTransactionRepository;
+        this.transactionMapper = transactionMapper;
+        this.balanceCheckpointRepository = balanceCheckpointRepository;
+        this.transactionRollupRepository = transactionRollupRepository;
+        this.balanceCacheEvictor = balanceCacheEvictor;
+        this.cacheManager = cacheManager;
+        this.accountNameFilter = accountNameFilter;
+        this.analyticsEngine = analyticsEngine;
+        this.searchProperties = searchProperties;
+        this.ingestProperties = ingestProperties;
+        this.moneyProperties = moneyProperties;
+        this.entityManager = entityManager;
+        this.searchRows = DistributionSummary.builder("finance.search.rows")
+                .description("Rows returned per search page")
+                .publishPercentiles(MetricsConfig.PERCENTILES)
+                .register(meterRegistry);
+    }
 
     @Transactional
-    @CacheEvict(value = "balanceCache", allEntries = true)
     public TransactionResponseDTO addTransaction(TransactionRequestDTO requestDTO) {
         log.info("Adding new transaction for account: {}", requestDTO.getAccountName());
         Transaction transaction = transactionMapper.toEntity(requestDTO);
         Transaction savedTransaction = transactionRepository.save(transaction);
+        applyBalanceChange(savedTransaction.getAccountName(), savedTransaction.getCreatedAt().toLocalDate(),
+                savedTransaction.getAmount());
+        Map<RollupKey, RollupDelta> rollupChanges = new LinkedHashMap<>();
+        addRollupChange(rollupChanges, savedTransaction, savedTransaction.getAmount(), 1);
+        applyRollupChanges(rollupChanges);
         log.info("Transaction added successfully with ID: {}", savedTransaction.getId());
         return transactionMapper.toDTO(savedTransaction);
     }
 
+    /**
+     * Inserts the requests in chunks of {@code finance.ingest.chunk-size}, each written with JDBC batching and
+     * cleared from the persistence context afterwards. Per-day changes are summed in minor units, then checkpoints
+     * are adjusted once per account and day and each affected account's cached balances are evicted once.
+     * Rollups are likewise updated once per account, category and period.
+     */
+    @Transactional
+    public List<TransactionResponseDTO> addTransactions(List<TransactionRequestDTO> requestDTOs) {
+        log.info("Adding batch of {} transactions", requestDTOs.size());
+        int chunkSize = ingestProperties.getChunkSize();
+        Currency currency = moneyProperties.getCurrency();
+        Map<String, SortedMap<LocalDate, MoneyAccumulator>> balanceChanges = new LinkedHashMap<>();
+        Map<RollupKey, RollupDelta> rollupChanges = new LinkedHashMap<>();
+        List<TransactionResponseDTO> responses = new ArrayList<>(requestDTOs.size());
+
+        for (int from = 0; from < requestDTOs.size(); from += chunkSize) {
+            List<Transaction> chunk = requestDTOs.subList(from, Math.min(from + chunkSize, requestDTOs.size())).stream()
+                    .map(transactionMapper::toEntity)
+                    .toList();
+            transactionRepository.saveAll(chunk);
+            transactionRepository.flush();
+            entityManager.clear();
+            for (Transaction saved : chunk) {
+                balanceChanges.computeIfAbsent(saved.getAccountName(), account -> new TreeMap<>())
+                        .computeIfAbsent(saved.getCreatedAt().toLocalDate(), date -> new MoneyAccumulator(currency))
+                        .add(saved.getAmount());
+                addRollupChange(rollupChanges, saved, saved.getAmount(), 1);
+                responses.add(transactionMapper.toDTO(saved));
+            }
+        }
+
+        balanceChanges.forEach((accountName, changesByDate) -> {
+            changesByDate.forEach((date, delta) -> updateCheckpoints(accountName, date, delta.toMoney().toBigDecimal()));
+            balanceCacheEvictor.evictFrom(accountName, changesByDate.firstKey());
+            analyticsEngine.invalidate(accountName);
+        });
+        applyRollupChanges(rollupChanges);
+        log.info("Batch of {} transactions added for {} accounts", responses.size(), balanceChanges.size());
+        return responses;
+    }
+
+    /**
+     * Lists one page of an account's transactions in creation order, optionally bounded by date. The page size
+     * is capped at {@code finance.search.max-page-size}; full histories are served by the export instead.
+     */
     @Transactional(readOnly = true)
-    public List<TransactionResponseDTO> getTransactionsByAccount(String accountName) {
-        log.info("Retrieving transactions for account: {}", accountName);
-        List<Transaction> transactions = transactionRepository.findByAccountName(accountName);
-        return transactions.stream()
-                .map(transactionMapper::toDTO)
-                .collect(Collectors.toList());
+    public Slice<TransactionResponseDTO> getTransactionsByAccount(String accountName, LocalDate fromDate,
+                                                                 LocalDate toDate, int page, int size) {
+        if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+            throw new IllegalArgumentException("From date cannot be after to date");
+        }
+        int pageSize = Math.min(size, searchProperties.getMaxPageSize());
+        log.info("Retrieving transactions for account: {}, page: {}, size: {}", accountName, page, pageSize);
+        Slice<Transaction> transactions = customTransactionRepository.findTransactionsByCriteria(
+                accountName, null, null, fromDate, toDate, null, null,
+                PageRequest.of(page, pageSize, Sort.by(CREATED_AT.getFieldName()).ascending()));
+        return transactions.map(transactionMapper::toDTO);
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(value = "balanceCache", key = "#accountName + '_' + #date")
+    @Cacheable(value = BalanceCacheEvictor.BALANCE_CACHE, key = "#accountName + '_' + #date")
     public BigDecimal calculateBalance(String accountName, LocalDate date) {
         log.info("Calculating balance for account: {} as of date: {}", accountName, date);
-        if (transactionRepository.findByAccountName(accountName).isEmpty()) {
+        if (!accountNameFilter.mightContain(accountName) || !transactionRepository.existsByAccountName(accountName)) {
             log.warn("Account not found when calculating balance: {}", accountName);
             throw new TransactionNotFoundException(accountName);
         }
-        return transactionRepository.calculateBalanceForAccount(accountName, date);
+        return analyticsEngine.balanceAsOf(accountName, date)
+                .orElseGet(() -> balanceAsOf(accountName, date));
+    }
+
+    /**
+     * Balances of many accounts at once, in request order; a missing date means today. Entries already in
+     * {@code balanceCache} are served from it; the remaining (account, date) pairs are resolved from their nearest
+     * checkpoints in a single statement and cached under the same keys as {@link #calculateBalance(String, LocalDate)}.
+     * Fails like the single lookup when an account has no transactions.
+     */
+    @Transactional(readOnly = true)
+    public List<AccountBalanceDTO> calculateBalances(List<BalanceQueryDTO> queries) {
+        log.info("Calculating {} balances in one batch", queries.size());
+        Cache cache = cacheManager.getCache(BalanceCacheEvictor.BALANCE_CACHE);
+        LocalDate today = LocalDate.now();
+        Map<String, BigDecimal> balances = new HashMap<>();
+        Map<LocalDate, Set<String>> missesByDate = new LinkedHashMap<>();
+        Currency currency = moneyProperties.getCurrency();
+
+        for (BalanceQueryDTO query : queries) {
+            String accountName = query.getAccountName();
+            LocalDate date = query.getDate() != null ? query.getDate() : today;
+            String key = BalanceCacheEvictor.key(accountName, date);
+            BigDecimal cached = cache != null ? cache.get(key, BigDecimal.class) : null;
+            if (cached != null) {
+                balances.put(key, cached);
+            } else if (!balances.containsKey(key)) {
+                if (!accountNameFilter.mightContain(accountName)) {
+                    throw new TransactionNotFoundException(accountName);
+                }
+                missesByDate.computeIfAbsent(date, missed -> new LinkedHashSet<>()).add(accountName);
+            }
+        }
+
+        Map<String, BigDecimal> found = new HashMap<>();
+        for (Object[] row : balanceCheckpointRepository.calculateBalancesAsOf(missesByDate)) {
+            found.put(BalanceCacheEvictor.key((String) row[0], (LocalDate) row[1]),
+                    Money.of((BigDecimal) row[2], currency).toBigDecimal());
+        }
+        missesByDate.forEach((date, accountNames) -> {
+            for (String accountName : accountNames) {
+                String key = BalanceCacheEvictor.key(accountName, date);
+                BigDecimal balance = found.get(key);
+                if (balance == null) {
+                    log.warn("Account not found when calculating balances: {}", accountName);
+                    throw new TransactionNotFoundException(accountName);
+                }
+                balances.put(key, balance);
+                if (cache != null) {
+                    cache.put(key, balance);
+                }
+            }
+        });
+        log.info("Balance batch resolved {} misses for {} dates",
+                missesByDate.values().stream().mapToInt(Set::size).sum(), missesByDate.size());
+
+        return queries.stream()
+                .map(query -> {
+                    LocalDate date = query.getDate() != null ? query.getDate() : today;
+                    return new AccountBalanceDTO(query.getAccountName(), date,
+                            balances.get(BalanceCacheEvictor.key(query.getAccountName(), date)));
+                })
+                .toList();
+    }
+
+    /**
+     * Totals per category of an account's transactions from {@code from} to {@code to} inclusive; with a
+     * {@code limit}, only that many categories with the largest absolute totals, largest first. Served from the
+     * column store when it holds the account, otherwise from the day rollups. Uncategorised transactions are
+     * reported under a {@code null} category.
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryTotalDTO> calculateCategoryTotals(String accountName, LocalDate from, LocalDate to,
+                                                          Integer limit) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From date cannot be after to date");
+        }
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        if (!accountNameFilter.mightContain(accountName) || !transactionRepository.existsByAccountName(accountName)) {
+            log.warn("Account not found when calculating category totals: {}", accountName);
+            throw new TransactionNotFoundException(accountName);
+        }
+        log.info("Calculating category totals for account: {} from {} to {}", accountName, from, to);
+        Optional<Map<String, BigDecimal>> columnar = limit != null
+                ? analyticsEngine.topCategories(accountName, from, to, limit)
+                : analyticsEngine.categoryTotals(accountName, from, to);
+        Map<String, BigDecimal> totals = columnar.orElseGet(() -> rollupCategoryTotals(accountName, from, to));
+        Stream<Map.Entry<String, BigDecimal>> entries = totals.entrySet().stream();
+        if (columnar.isEmpty() && limit != null) {
+            entries = entries
+                    .sorted(Comparator.comparing((Map.Entry<String, BigDecimal> entry) -> entry.getValue().abs())
+                            .reversed())
+                    .limit(limit);
+        } else if (limit == null) {
+            entries = entries.sorted(Map.Entry.comparingByKey(Comparator.nullsLast(Comparator.naturalOrder())));
+        }
+        return entries.map(entry -> new CategoryTotalDTO(entry.getKey(), entry.getValue())).toList();
+    }
+
+    /**
+     * Balances at the end of {@code from} and of every {@code step} after it up to {@code to}. The opening balance
+     * is read once from the checkpoints; the points follow from a running sum over one ordered scan of the
+     * account's transactions in the range.
+     */
+    @Transactional(readOnly = true)
+    public List<BalancePointDTO> calculateBalanceSeries(String accountName, LocalDate from, LocalDate to,
+                                                        BalanceSeriesStep step) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From date cannot be after to date");
+        }
+        log.info("Calculating {} balance series for account: {} from {} to {}", step, accountName, from, to);
+        int maxPoints = searchProperties.getMaxSeriesPoints();
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = step.point(from, dates.size())) {
+            if (dates.size() == maxPoints) {
+                throw new IllegalArgumentException("Balance series cannot have more than " + maxPoints + " points");
+            }
+            dates.add(date);
+        }
+        if (!accountNameFilter.mightContain(accountName) || !transactionRepository.existsByAccountName(accountName)) {
+            log.warn("Account not found when calculating balance series: {}", accountName);
+            throw new TransactionNotFoundException(accountName);
+        }
+
+        LocalDate last = dates.get(dates.size() - 1);
+        MoneyAccumulator balance = new MoneyAccumulator(moneyProperties.getCurrency())
+                .add(balanceAsOf(accountName, from.minusDays(1)));
+        List<BalancePointDTO> points = new ArrayList<>(dates.size());
+
+        try (Stream<Object[]> rows = transactionRepository.streamAmountsForAccount(
+                accountName, from.atStartOfDay(), last.plusDays(1).atStartOfDay())) {
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                LocalDate posted = ((LocalDateTime) row[0]).toLocalDate();
+                while (posted.isAfter(dates.get(points.size()))) {
+                    points.add(new BalancePointDTO(dates.get(points.size()), balance.toMoney().toBigDecimal()));
+                }
+                balance.add((BigDecimal) row[1]);
+            }
+        }
+        while (points.size() < dates.size()) {
+            points.add(new BalancePointDTO(dates.get(points.size()), balance.toMoney().toBigDecimal()));
+        }
+        return points;
     }
 
     @Transactional
-    @CacheEvict(value = "balanceCache", allEntries = true)
     public TransactionResponseDTO updateTransaction(Long id, TransactionRequestDTO requestDTO) {
         log.info("Updating transaction with ID: {}", id);
 
@@ -77,6 +361,10 @@ public class TransactionService {
                     return new TransactionNotFoundException(id);
                 });
 
+        String previousAccountName = transaction.getAccountName();
+        String previousCategory = transaction.getCategory();
+        BigDecimal previousAmount = transaction.getAmount();
+
         transaction.setAccountName(requestDTO.getAccountName());
         transaction.setAmount(requestDTO.getAmount());
         transaction.setCategory(requestDTO.getCategory());
@@ -84,68 +372,315 @@ public class TransactionService {
         transaction.setUpdatedAt(LocalDateTime.now());
 
         Transaction updated = transactionRepository.save(transaction);
+        LocalDate postingDate = updated.getCreatedAt().toLocalDate();
+        if (previousAccountName.equals(updated.getAccountName())) {
+            applyBalanceChange(updated.getAccountName(), postingDate, updated.getAmount().subtract(previousAmount));
+        } else {
+            applyBalanceChange(previousAccountName, postingDate, previousAmount.negate());
+            applyBalanceChange(updated.getAccountName(), postingDate, updated.getAmount());
+        }
+        Map<RollupKey, RollupDelta> rollupChanges = new LinkedHashMap<>();
+        if (previousAccountName.equals(updated.getAccountName()) && Objects.equals(previousCategory, updated.getCategory())) {
+            addRollupChange(rollupChanges, updated, updated.getAmount().subtract(previousAmount), 0);
+        } else {
+            for (RollupPeriod period : RollupPeriod.STORED) {
+                rollupChanges.computeIfAbsent(
+                                new RollupKey(previousAccountName, previousCategory, period, period.start(postingDate)),
+                                key -> new RollupDelta(moneyProperties.getCurrency()))
+                        .add(previousAmount.negate(), -1);
+            }
+            addRollupChange(rollupChanges, updated, updated.getAmount(), 1);
+        }
+        applyRollupChanges(rollupChanges);
         log.info("Transaction updated successfully with ID: {}", updated.getId());
         return transactionMapper.toDTO(updated);
     }
 
+    @Transactional(readOnly = true)
     public PagedTransactionResponseDTO searchTransactions(
             TransactionSearchCriteriaDTO criteria,
             int page,
             int size,
             String sortBy,
-            String sortDir) {
+            String sortDir,
+            String cursor,
+            TotalsMode totalsMode) {
 
-        log.info("Searching transactions with criteria - account: {}, page: {}, size: {}",
-                criteria.getAccountName(), page, size);
+        log.info("Searching transactions with criteria - account: {}, page: {}, size: {}, cursor: {}, totals: {}",
+                criteria.getAccountName(), page, size, cursor != null, totalsMode);
 
         Sort sort = sortDir.equalsIgnoreCase("asc")
                 ? Sort.by(sortBy).ascending()
                 : Sort.by(sortBy).descending();
+        Sort.Order order = sort.getOrderFor(sortBy);
         PageRequest pageable = PageRequest.of(page, size, sort);
 
-        Page<Transaction> pageResult = customTransactionRepository.findTransactionsByCriteria(
-                criteria.getAccountName(),
-                criteria.getMinAmount(),
-                criteria.getMaxAmount(),
-                criteria.getFromDate(),
-                criteria.getToDate(),
-                criteria.getCategory(),
-                criteria.getDescription(),
-                pageable
-        );
-
-        List<TransactionResponseDTO> transactions = pageResult.getContent().stream()
+        List<Transaction> rows;
+        boolean hasNext;
+        if (cursor != null) {
+            TransactionCursor position = TransactionCursor.decode(cursor);
+            if (!position.matches(order)) {
+                throw new IllegalArgumentException("Cursor does not match sort: " + sortBy + " " + sortDir);
+            }
+            List<Transaction> fetched = customTransactionRepository.findTransactionsAfterCursor(
+                    criteria.getAccountName(),
+                    criteria.getMinAmount(),
+                    criteria.getMaxAmount(),
+                    criteria.getFromDate(),
+                    criteria.getToDate(),
+                    criteria.getCategory(),
+                    criteria.getDescription(),
+                    order,
+                    position,
+                    size + 1
+            );
+            hasNext = fetched.size() > size;
+            rows = hasNext ? fetched.subList(0, size) : fetched;
+        } else {
+            Slice<Transaction> slice = customTransactionRepository.findTransactionsByCriteria(
+                    criteria.getAccountName(),
+                    criteria.getMinAmount(),
+                    criteria.getMaxAmount(),
+                    criteria.getFromDate(),
+                    criteria.getToDate(),
+                    criteria.getCategory(),
+                    criteria.getDescription(),
+                    pageable
+            );
+            hasNext = slice.hasNext();
+            rows = slice.getContent();
+        }
+
+        List<TransactionResponseDTO> transactions = rows.stream()
                 .map(transactionMapper::toDTO)
                 .collect(Collectors.toList());
 
-        BigDecimal totalBalance = customTransactionRepository.calculateTotalBalanceByCriteria(
-                criteria.getAccountName(),
-                criteria.getMinAmount(),
-                criteria.getMaxAmount(),
-                criteria.getFromDate(),
-                criteria.getToDate(),
-                criteria.getCategory(),
-                criteria.getDescription()
-        );
-
         PagedTransactionResponseDTO response = new PagedTransactionResponseDTO();
         response.setTransactions(transactions);
-        response.setTotalRecords(pageResult.getTotalElements());
-        response.setTotalBalance(totalBalance);
+        response.setHasNext(hasNext);
+        if (hasNext && !rows.isEmpty() && TransactionCursor.isSupported(sortBy)) {
+            response.setNextCursor(TransactionCursor.after(rows.get(rows.size() - 1), order).encode());
+        }
+
+        if (totalsMode == TotalsMode.EXACT) {
+            TransactionTotals totals = columnarTotals(criteria).orElseGet(() ->
+                    customTransactionRepository.calculateTotalsByCriteria(
+                            criteria.getAccountName(),
+                            criteria.getMinAmount(),
+                            criteria.getMaxAmount(),
+                            criteria.getFromDate(),
+                            criteria.getToDate(),
+                            criteria.getCategory(),
+                            criteria.getDescription()
+                    ));
+            response.setTotalRecords(totals.count());
+            response.setTotalBalance(totals.balance());
+        } else if (totalsMode == TotalsMode.ESTIMATED) {
+            long estimatedCount = customTransactionRepository.estimateCountByCriteria(
+                    criteria.getAccountName(),
+                    criteria.getMinAmount(),
+                    criteria.getMaxAmount(),
+                    criteria.getFromDate(),
+                    criteria.getToDate(),
+                    criteria.getCategory(),
+                    criteria.getDescription(),
+                    searchProperties.getEstimatedCountLimit()
+            );
+            response.setTotalRecords(estimatedCount);
+            response.setTotalsEstimated(true);
+        }
 
         log.info("Search completed, found {} transactions", transactions.size());
+        searchRows.record(transactions.size());
 
         return response;
     }
 
+    /**
+     * Summarises totals per category or account and period from the rollups, so the work grows with the number of
+     * groups and periods in the range rather than with the number of transactions. A period is included when it
+     * starts between the start of the period containing {@code from} and {@code to}; years add up month rollups.
+     */
+    @Transactional(readOnly = true)
+    public List<TransactionSummaryDTO> summarizeTransactions(SummaryGroupBy groupBy, RollupPeriod period,
+                                                             LocalDate from, LocalDate to, String accountName) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From date cannot be after to date");
+        }
+        log.info("Summarising transactions by {} per {} from {} to {}", groupBy, period, from, to);
+        RollupPeriod source = period.storedSource();
+        LocalDate start = period.start(from);
+        List<RollupSummary> rows;
+        if (groupBy == SummaryGroupBy.CATEGORY) {
+            rows = accountName == null
+                    ? transactionRollupRepository.summarizeByCategory(source, start, to)
+                    : transactionRollupRepository.summarizeByCategoryForAccount(accountName, source, start, to);
+        } else {
+            rows = accountName == null
+                    ? transactionRollupRepository.summarizeByAccount(source, start, to)
+                    : transactionRollupRepository.summarizeByAccountForAccount(accountName, source, start, to);
+        }
+        if (source != period) {
+            rows = foldInto(period, rows);
+        }
+        return rows.stream().map(TransactionService::toSummaryDTO).toList();
+    }
+
     @Transactional
-    @CacheEvict(value = "balanceCache", allEntries = true)
     public void deleteTransaction(Long id) {
-        if (!transactionRepository.existsById(id)) {
-            log.warn("Delete failed - Transaction not found with ID: {}", id);
-            throw new TransactionNotFoundException(id);
-        }
-        transactionRepository.deleteById(id);
+        Transaction transaction = transactionRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.warn("Delete failed - Transaction not found with ID: {}", id);
+                    return new TransactionNotFoundException(id);
+                });
+        transactionRepository.delete(transaction);
+        applyBalanceChange(transaction.getAccountName(), transaction.getCreatedAt().toLocalDate(),
+                transaction.getAmount().negate());
+        Map<RollupKey, RollupDelta> rollupChanges = new LinkedHashMap<>();
+        addRollupChange(rollupChanges, transaction, transaction.getAmount().negate(), -1);
+        applyRollupChanges(rollupChanges);
         log.info("Transaction deleted with ID: {}", id);
     }
+
+    /**
+     * Reads the nearest checkpoint on or before {@code date} and adds only the rows posted after it.
+     * Falls back to a full sum for accounts that have no checkpoint yet.
+     */
+    private BigDecimal balanceAsOf(String accountName, LocalDate date) {
+        LocalDateTime endOfDay = date.plusDays(1).atStartOfDay();
+        return balanceCheckpointRepository
+                .findFirstByAccountNameAndCheckpointDateLessThanEqualOrderByCheckpointDateDesc(accountName, date)
+                .map(checkpoint -> checkpoint.getBalance().add(transactionRepository.calculateBalanceChangeForAccount(
+                        accountName,
+                        checkpoint.getCheckpointDate().plusDays(1).atStartOfDay(),
+                        endOfDay)))
+                .orElseGet(() -> transactionRepository.calculateBalanceForAccount(accountName, endOfDay));
+    }
+
+    /**
+     * Records a balance change on the account's checkpoints and evicts only its cached balances from
+     * {@code date} onwards, together with its analytics columns.
+     */
+    private void applyBalanceChange(String accountName, LocalDate date, BigDecimal delta) {
+        updateCheckpoints(accountName, date, delta);
+        balanceCacheEvictor.evictFrom(accountName, date);
+        analyticsEngine.invalidate(accountName);
+    }
+
+    /**
+     * Totals from the column store for single-account searches without a description term, which it cannot
+     * match; empty when the engine is disabled or cannot hold the account.
+     */
+    private Optional<TransactionTotals> columnarTotals(TransactionSearchCriteriaDTO criteria) {
+        if (criteria.getAccountName() == null || criteria.getDescription() != null) {
+            return Optional.empty();
+        }
+        return analyticsEngine.totals(criteria.getAccountName(), criteria.getMinAmount(), criteria.getMaxAmount(),
+                criteria.getFromDate(), criteria.getToDate(), criteria.getCategory());
+    }
+
+    /**
+     * Adds a change of one transaction to {@code changes} under its account's rollup key for every stored period.
+     */
+    private void addRollupChange(Map<RollupKey, RollupDelta> changes, Transaction transaction, BigDecimal amount,
+                                 long count) {
+        for (RollupPeriod period : RollupPeriod.STORED) {
+            changes.computeIfAbsent(RollupKey.of(transaction, period),
+                    key -> new RollupDelta(moneyProperties.getCurrency())).add(amount, count);
+        }
+    }
+
+    /**
+     * Writes the summed changes in one batch, one upsert per rollup row, creating rows on first use. Changes that
+     * cancel out are skipped; rows that drop to zero transactions are kept and filtered out of summaries.
+     */
+    private void applyRollupChanges(Map<RollupKey, RollupDelta> changes) {
+        List<RollupChange> batch = new ArrayList<>(changes.size());
+        changes.forEach((key, delta) -> {
+            BigDecimal amount = delta.total.toMoney().toBigDecimal();
+            if (amount.signum() != 0 || delta.count != 0) {
+                batch.add(new RollupChange(key.accountName(), key.category(), key.period(), key.periodStart(),
+                        amount, delta.count));
+            }
+        });
+        if (!batch.isEmpty()) {
+            transactionRollupRepository.applyDeltas(batch);
+        }
+    }
+
+    private Map<String, BigDecimal> rollupCategoryTotals(String accountName, LocalDate from, LocalDate to) {
+        Map<String, BigDecimal> totals = new HashMap<>();
+        for (RollupSummary row : transactionRollupRepository.summarizeByCategoryForAccount(
+                accountName, RollupPeriod.DAY, from, to)) {
+            totals.merge(row.group(), row.total(), BigDecimal::add);
+        }
+        return totals;
+    }
+
+    private static List<RollupSummary> foldInto(RollupPeriod period, List<RollupSummary> rows) {
+        Map<SummaryKey, RollupSummary> folded = new LinkedHashMap<>();
+        for (RollupSummary row : rows) {
+            LocalDate periodStart = period.start(row.periodStart());
+            folded.merge(new SummaryKey(row.group(), periodStart),
+                    new RollupSummary(row.group(), periodStart, row.total(), row.count()),
+                    (a, b) -> new RollupSummary(a.group(), a.periodStart(), a.total().add(b.total()), a.count() + b.count()));
+        }
+        return folded.values().stream()
+                .sorted(Comparator.comparing(RollupSummary::periodStart).thenComparing(RollupSummary::group))
+                .toList();
+    }
+
+    private static TransactionSummaryDTO toSummaryDTO(RollupSummary row) {
+        TransactionSummaryDTO dto = new TransactionSummaryDTO();
+        dto.setGroup(row.group());
+        dto.setPeriodStart(row.periodStart());
+        dto.setTotal(row.total());
+        dto.setCount(row.count());
+        return dto;
+    }
+
+    private record RollupKey(String accountName, String category, RollupPeriod period, LocalDate periodStart) {
+        static RollupKey of(Transaction transaction, RollupPeriod period) {
+            return new RollupKey(transaction.getAccountName(), transaction.getCategory(), period,
+                    period.start(transaction.getCreatedAt().toLocalDate()));
+        }
+    }
+
+    /**
+     * A summary row's group, which is a category or an account name, and the start of its folded period.
+     */
+    private record SummaryKey(String group, LocalDate periodStart) {
+    }
+
+    private static final class RollupDelta {
+        private final MoneyAccumulator total;
+        private long count;
+
+        RollupDelta(Currency currency) {
+            this.total = new MoneyAccumulator(currency);
+        }
+
+        void add(BigDecimal amount, long transactions) {
+            total.add(amount);
+            count += transactions;
+        }
+    }
+
+    /**
+     * Moves every checkpoint on or after {@code date} by {@code delta} and makes sure the day itself has one,
+     * so later balance lookups for the account never have to scan past it. When a concurrent first write of the
+     * day commits its checkpoint between the shift and the insert, that checkpoint was computed without this
+     * write's rows, so the delta is added to it instead.
+     */
+    private void updateCheckpoints(String accountName, LocalDate date, BigDecimal delta) {
+        transactionRepository.flush();
+        if (delta.signum() != 0) {
+            balanceCheckpointRepository.shiftBalancesFrom(accountName, date, delta);
+        }
+        if (!balanceCheckpointRepository.existsByAccountNameAndCheckpointDate(accountName, date)
+                && !balanceCheckpointRepository.insertIfAbsent(accountName, date, balanceAsOf(accountName, date))
+                && delta.signum() != 0) {
+            balanceCheckpointRepository.shiftBalanceOn(accountName, date, delta);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.example.personalfinancetracker.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AccountColumnsTest {
+
+    private static final int FOOD = 1;
+    private static final int RENT = 2;
+    private static final int INCOME = 3;
+
+    private final AccountColumns columns = AccountColumns.builder()
+            .add(10, 100_000, INCOME)
+            .add(12, -1_250, FOOD)
+            .add(11, -80_000, RENT)
+            .add(12, -750, FOOD)
+            .add(15, 2_000, FOOD)
+            .build();
+
+    @Test
+    void shouldSumRowsThroughDayInPostingOrder() {
+        assertEquals(0, columns.sumThrough(9, 1000));
+        assertEquals(20_000, columns.sumThrough(11, 1000));
+        assertEquals(18_000, columns.sumThrough(12, 1000));
+        assertEquals(20_000, columns.sumThrough(Integer.MAX_VALUE, 1000));
+    }
+
+    @Test
+    void shouldFilterTotalsByDayAmountAndCategory() {
+        assertEquals(new AccountColumns.Totals(2, -2_000),
+                columns.totals(12, 12, Long.MIN_VALUE, Long.MAX_VALUE, FOOD, 1000));
+        assertEquals(new AccountColumns.Totals(3, -82_000),
+                columns.totals(Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE, -750, AccountColumns.ANY_CATEGORY, 1000));
+        assertEquals(new AccountColumns.Totals(0, 0),
+                columns.totals(16, 20, Long.MIN_VALUE, Long.MAX_VALUE, AccountColumns.ANY_CATEGORY, 1000));
+    }
+
+    @Test
+    void shouldMatchSequentialTotalsWhenSplitAcrossForkJoinPool() {
+        Random random = new Random(42);
+        AccountColumns.Builder builder = AccountColumns.builder();
+        for (int day = 0; day < 50_000; day++) {
+            builder.add(day, random.nextInt(20_000) - 10_000, random.nextInt(5));
+        }
+        AccountColumns large = builder.build();
+
+        AccountColumns.Totals sequential = large.totals(1_000, 45_000, -5_000, 8_000, 3, Integer.MAX_VALUE);
+        AccountColumns.Totals parallel = large.totals(1_000, 45_000, -5_000, 8_000, 3, 1_024);
+
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    void shouldBreakDownAndRankCategories() {
+        assertEquals(Map.of(FOOD, 0L, RENT, -80_000L, INCOME, 100_000L), columns.sumByCategory(0, 20));
+
+        List<Map.Entry<Integer, Long>> top = columns.topCategories(0, 20, 2);
+
+        assertEquals(List.of(Map.entry(INCOME, 100_000L), Map.entry(RENT, -80_000L)), top);
+    }
+
+    @Test
+    void shouldAccountThreeColumnsPerRow() {
+        assertEquals(5, columns.size());
+        assertEquals(5L * AccountColumns.BYTES_PER_ROW, columns.bytes());
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.personalfinancetracker.cache;
+
+import com.example.personalfinancetracker.config.FinanceCacheProperties;
+import com.example.personalfinancetracker.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccountNameFilterTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    private AccountNameFilter accountNameFilter;
+
+    @BeforeEach
+    void setUp() {
+        FinanceCacheProperties cacheProperties = new FinanceCacheProperties();
+        cacheProperties.getAccountFilter().setExpectedAccounts(1_000);
+        cacheProperties.getAccountFilter().setFalsePositiveRate(0.01);
+        accountNameFilter = new AccountNameFilter(transactionRepository, cacheProperties);
+    }
+
+    @Test
+    void shouldReportEveryNameAsPossibleUntilLoaded() {
+        assertTrue(accountNameFilter.mightContain("Unknown"));
+    }
+
+    @Test
+    void shouldContainLoadedAndAddedNames() {
+        when(transactionRepository.findDistinctAccountNames()).thenReturn(List.of("Aylin", "Nazli"));
+
+        accountNameFilter.load();
+        accountNameFilter.add("Deniz");
+
+        assertTrue(accountNameFilter.mightContain("Aylin"));
+        assertTrue(accountNameFilter.mightContain("Nazli"));
+        assertTrue(accountNameFilter.mightContain("Deniz"));
+        assertFalse(accountNameFilter.mightContain("Alien"));
+    }
+
+    @Test
+    void shouldKeepFalsePositivesNearConfiguredRate() {
+        when(transactionRepository.findDistinctAccountNames())
+                .thenReturn(IntStream.range(0, 1_000).mapToObj(i -> "account-" + i).toList());
+        accountNameFilter.load();
+
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> accountNameFilter.mightContain("unknown-" + i))
+                .count();
+
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.personalfinancetracker.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class BalanceCacheTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 2, 24);
+
+    @Test
+    void shouldEvictOnlyTheAccountFromTheDateOn() {
+        BalanceCache cache = new BalanceCache(Caffeine.newBuilder().maximumSize(100), true);
+        cache.put(BalanceCacheEvictor.key("Aylin", DAY.minusDays(1)), new BigDecimal("1.00"));
+        cache.put(BalanceCacheEvictor.key("Aylin", DAY), new BigDecimal("2.00"));
+        cache.putIfAbsent(BalanceCacheEvictor.key("Aylin", DAY.plusDays(3)), new BigDecimal("10.00"));
+        cache.put(BalanceCacheEvictor.key("Aylin_Savings", DAY), new BigDecimal("10.00"));
+        cache.put(BalanceCacheEvictor.key("Nazli", DAY), new BigDecimal("10.00"));
+
+        assertEquals(2, cache.evictFrom("Aylin", DAY));
+
+        assertNotNull(cache.get(BalanceCacheEvictor.key("Aylin", DAY.minusDays(1))));
+        assertNull(cache.get(BalanceCacheEvictor.key("Aylin", DAY)));
+        assertNull(cache.get(BalanceCacheEvictor.key("Aylin", DAY.plusDays(3))));
+        assertNotNull(cache.get(BalanceCacheEvictor.key("Aylin_Savings", DAY)));
+        assertNotNull(cache.get(BalanceCacheEvictor.key("Nazli", DAY)));
+        assertEquals(0, cache.evictFrom("Aylin", DAY));
+    }
+
+    @Test
+    void shouldUnindexEntriesDroppedBySize() {
+        BalanceCache cache = new BalanceCache(Caffeine.newBuilder().maximumSize(1).executor(Runnable::run), true);
+        cache.put(BalanceCacheEvictor.key("Aylin", DAY), new BigDecimal("1.00"));
+        cache.put(BalanceCacheEvictor.key("Aylin", DAY.plusDays(1)), new BigDecimal("2.00"));
+        cache.getNativeCache().cleanUp();
+
+        assertEquals(1, cache.getNativeCache().estimatedSize());
+        assertEquals(1, cache.evictFrom("Aylin", DAY));
+    }
+
+    @Test
+    void shouldForgetIndexedDatesOnClear() {
+        BalanceCache cache = new BalanceCache(Caffeine.newBuilder().maximumSize(100), true);
+        cache.put(BalanceCacheEvictor.key("Aylin", DAY), new BigDecimal("1.00"));
+
+        cache.clear();
+
+        assertEquals(0, cache.evictFrom("Aylin", DAY));
+    }
+}
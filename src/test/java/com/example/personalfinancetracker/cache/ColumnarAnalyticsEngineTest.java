@@ -0,0 +1,129 @@
+package com.example.personalfinancetracker.cache;
+
+import com.example.personalfinancetracker.config.FinanceAnalyticsProperties;
+import com.example.personalfinancetracker.config.FinanceMoneyProperties;
+import com.example.personalfinancetracker.domain.TransactionTotals;
+import com.example.personalfinancetracker.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ColumnarAnalyticsEngineTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private NameDictionary nameDictionary;
+
+    private final FinanceAnalyticsProperties analyticsProperties = new FinanceAnalyticsProperties();
+
+    private ColumnarAnalyticsEngine analyticsEngine;
+
+    @BeforeEach
+    void setUp() {
+        analyticsProperties.setEnabled(true);
+        analyticsEngine = new ColumnarAnalyticsEngine(
+                transactionRepository, nameDictionary, analyticsProperties, new FinanceMoneyProperties());
+        lenient().when(nameDictionary.idOf(NameDictionary.Kind.CATEGORY, "Food")).thenReturn(1);
+        lenient().when(nameDictionary.idOf(NameDictionary.Kind.CATEGORY, "Rent")).thenReturn(2);
+        lenient().when(nameDictionary.nameOf(NameDictionary.Kind.CATEGORY, 1)).thenReturn("Food");
+        lenient().when(nameDictionary.nameOf(NameDictionary.Kind.CATEGORY, 2)).thenReturn("Rent");
+        lenient().when(transactionRepository.streamColumnsForAccount(anyString())).thenAnswer(invocation -> Stream.of(
+                new Object[]{DAY.atTime(9, 0), new BigDecimal("500.00"), "Rent"},
+                new Object[]{DAY.atTime(12, 0), new BigDecimal("-12.50"), "Food"},
+                new Object[]{DAY.plusDays(1).atTime(8, 0), new BigDecimal("-7.25"), "Food"}));
+    }
+
+    @Test
+    void shouldStayOutOfTheWayWhenDisabled() {
+        analyticsProperties.setEnabled(false);
+
+        assertEquals(Optional.empty(), analyticsEngine.balanceAsOf("Aylin", DAY));
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    void shouldAnswerFromColumnsLoadedOnce() {
+        assertEquals(Optional.of(new BigDecimal("487.50")), analyticsEngine.balanceAsOf("Aylin", DAY));
+        assertEquals(Optional.of(new TransactionTotals(2, new BigDecimal("-19.75"))),
+                analyticsEngine.totals("Aylin", null, new BigDecimal("-0.001"), null, null, "Food"));
+        assertEquals(Optional.of(Map.of("Rent", new BigDecimal("500.00"), "Food", new BigDecimal("-12.50"))),
+                analyticsEngine.categoryTotals("Aylin", DAY, DAY));
+        assertEquals(Optional.of(Map.of("Rent", new BigDecimal("500.00"))),
+                analyticsEngine.topCategories("Aylin", DAY, DAY.plusDays(1), 1));
+
+        verify(transactionRepository, times(1)).streamColumnsForAccount("Aylin");
+    }
+
+    @Test
+    void shouldKeepUncategorisedRowsOutOfCategoryFilters() {
+        when(transactionRepository.streamColumnsForAccount("Aylin")).thenReturn(Stream.of(
+                new Object[]{DAY.atTime(9, 0), new BigDecimal("500.00"), "Rent"},
+                new Object[]{DAY.atTime(10, 0), new BigDecimal("-40.00"), null}));
+
+        assertEquals(Optional.of(new BigDecimal("460.00")), analyticsEngine.balanceAsOf("Aylin", DAY));
+        assertEquals(Optional.of(new TransactionTotals(1, new BigDecimal("500.00"))),
+                analyticsEngine.totals("Aylin", null, null, null, null, "Rent"));
+        assertEquals(Optional.of(new TransactionTotals(0, new BigDecimal("0.00"))),
+                analyticsEngine.totals("Aylin", null, null, null, null, "Unknown"));
+        Map<String, BigDecimal> byCategory = new HashMap<>();
+        byCategory.put("Rent", new BigDecimal("500.00"));
+        byCategory.put(null, new BigDecimal("-40.00"));
+        assertEquals(Optional.of(byCategory), analyticsEngine.categoryTotals("Aylin", DAY, DAY));
+    }
+
+    @Test
+    void shouldReloadAccountAfterInvalidation() {
+        analyticsEngine.balanceAsOf("Aylin", DAY);
+        analyticsEngine.invalidate("Aylin");
+        analyticsEngine.balanceAsOf("Aylin", DAY);
+
+        verify(transactionRepository, times(2)).streamColumnsForAccount("Aylin");
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedAccountOverBudget() {
+        analyticsProperties.setMemoryBudget(DataSize.ofBytes(2L * 3 * AccountColumns.BYTES_PER_ROW));
+
+        analyticsEngine.balanceAsOf("Aylin", DAY);
+        analyticsEngine.balanceAsOf("Nazli", DAY);
+        analyticsEngine.balanceAsOf("Aylin", DAY);
+        analyticsEngine.balanceAsOf("Deniz", DAY);
+        analyticsEngine.balanceAsOf("Aylin", DAY);
+        analyticsEngine.balanceAsOf("Nazli", DAY);
+
+        verify(transactionRepository, times(1)).streamColumnsForAccount("Aylin");
+        verify(transactionRepository, times(2)).streamColumnsForAccount("Nazli");
+    }
+
+    @Test
+    void shouldFallBackToSqlForAccountsLargerThanBudget() {
+        analyticsProperties.setMemoryBudget(DataSize.ofBytes(AccountColumns.BYTES_PER_ROW));
+
+        assertEquals(Optional.empty(), analyticsEngine.balanceAsOf("Aylin", DAY));
+        when(transactionRepository.streamColumnsForAccount("Aylin")).thenReturn(Stream.empty());
+        assertEquals(Optional.of(new BigDecimal("0.00")), analyticsEngine.balanceAsOf("Aylin", DAY));
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.personalfinancetracker.cache;
+
+import com.example.personalfinancetracker.config.FinanceSearchProperties;
+import com.example.personalfinancetracker.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DescriptionTrigramIndexTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final FinanceSearchProperties searchProperties = new FinanceSearchProperties();
+
+    private DescriptionTrigramIndex descriptionTrigramIndex;
+
+    @BeforeEach
+    void setUp() {
+        descriptionTrigramIndex = new DescriptionTrigramIndex(transactionRepository, transactionManager, searchProperties);
+    }
+
+    @Test
+    void shouldNotAnswerBeforeLoaded() {
+        descriptionTrigramIndex.add(1L, "Grocery shopping");
+
+        assertEquals(Optional.empty(), descriptionTrigramIndex.candidates("grocery"));
+    }
+
+    @Test
+    void shouldReturnIdsContainingEveryTrigramIgnoringCase() {
+        load(new Object[]{1L, "Grocery shopping"}, new Object[]{2L, "Monthly SALARY"}, new Object[]{3L, "Groceries"});
+
+        assertEquals(Optional.of(Set.of(1L, 3L)), descriptionTrigramIndex.candidates("GROCER"));
+        assertEquals(Optional.of(Set.of(2L)), descriptionTrigramIndex.candidates("salary"));
+        assertEquals(Optional.of(Set.of()), descriptionTrigramIndex.candidates("rent"));
+    }
+
+    @Test
+    void shouldLeaveShortWildcardAndNonAsciiTermsToLike() {
+        load(new Object[]{1L, "Grocery shopping"});
+
+        assertEquals(Optional.empty(), descriptionTrigramIndex.candidates("gr"));
+        assertEquals(Optional.empty(), descriptionTrigramIndex.candidates("gro%ery"));
+        assertEquals(Optional.empty(), descriptionTrigramIndex.candidates("gro_ery"));
+        assertEquals(Optional.empty(), descriptionTrigramIndex.candidates("çarşı"));
+    }
+
+    @Test
+    void shouldAlwaysReturnNonAsciiDescriptionsAsCandidates() {
+        load(new Object[]{1L, "Grocery shopping"}, new Object[]{2L, "Market alışverişi"});
+
+        assertEquals(Optional.of(Set.of(1L, 2L)), descriptionTrigramIndex.candidates("grocery"));
+    }
+
+    @Test
+    void shouldDropRemovedIdsAndCapCandidates() {
+        searchProperties.setDescriptionIndexMaxCandidates(1);
+        load(new Object[]{1L, "Coffee"}, new Object[]{2L, "Coffee beans"});
+
+        assertEquals(Optional.empty(), descriptionTrigramIndex.candidates("coffee"));
+
+        descriptionTrigramIndex.remove(2L);
+
+        assertEquals(Optional.of(Set.of(1L)), descriptionTrigramIndex.candidates("coffee"));
+    }
+
+    @Test
+    void shouldKeepIdsSortedAcrossOutOfOrderAddsAndRemoves() {
+        load(new Object[]{5L, "Coffee"}, new Object[]{1L, "Coffee"}, new Object[]{3L, "Coffee beans"});
+        descriptionTrigramIndex.add(2L, "Iced coffee");
+        descriptionTrigramIndex.add(3L, "Coffee beans");
+        descriptionTrigramIndex.remove(1L);
+
+        assertEquals(Optional.of(Set.of(2L, 3L, 5L)), descriptionTrigramIndex.candidates("coffee"));
+        assertEquals(Optional.of(Set.of(3L)), descriptionTrigramIndex.candidates("beans"));
+    }
+
+    @Test
+    void shouldFallBackToLikeBeyondTheMemoryBudget() {
+        searchProperties.setDescriptionIndexMemoryBudget(DataSize.ofKilobytes(1));
+        load(new Object[]{1L, "Grocery shopping"}, new Object[]{2L, "Monthly salary"});
+
+        assertEquals(Optional.empty(), descriptionTrigramIndex.candidates("grocery"));
+
+        descriptionTrigramIndex.add(3L, "Groceries");
+
+        assertEquals(Optional.empty(), descriptionTrigramIndex.candidates("grocer"));
+    }
+
+    private void load(Object[]... rows) {
+        when(transactionRepository.streamDescriptions()).thenReturn(Stream.of(rows));
+        descriptionTrigramIndex.load();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.personalfinancetracker.cache;
+
+import com.example.personalfinancetracker.domain.Transaction;
+import com.example.personalfinancetracker.dto.TransactionRequestDTO;
+import com.example.personalfinancetracker.repository.TransactionRepository;
+import com.example.personalfinancetracker.service.TransactionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static com.example.personalfinancetracker.util.TransactionTestUtils.createAndSaveTransaction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs with a single pooled connection, so any write that needs a second one times out.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:finance-dictionary-testdb",
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.connection-timeout=250"
+})
+class NameDictionaryTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private NameDictionary nameDictionary;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void shouldRegisterNewNamesOnTheWritersConnection() {
+        TransactionRequestDTO request = new TransactionRequestDTO();
+        request.setAccountName("Dictionary-" + System.nanoTime());
+        request.setAmount(new BigDecimal("-12.50"));
+        request.setCategory("Bakery");
+
+        assertEquals(request.getAccountName(), transactionService.addTransaction(request).getAccountName());
+        assertNotEquals(NameDictionary.UNKNOWN_ID, nameDictionary.idOf(NameDictionary.Kind.ACCOUNT, request.getAccountName()));
+        assertNotEquals(NameDictionary.UNKNOWN_ID, nameDictionary.idOf(NameDictionary.Kind.CATEGORY, "Bakery"));
+    }
+
+    @Test
+    void shouldRegisterNewNamesWhenSavingThroughTheRepository() {
+        String account = "Repository-" + System.nanoTime();
+
+        Transaction saved = createAndSaveTransaction(transactionRepository, account, BigDecimal.TEN, "Books", null, null);
+        saved.setCategory("Music-" + System.nanoTime());
+        transactionRepository.save(saved);
+
+        Transaction reloaded = transactionRepository.findById(saved.getId()).orElseThrow();
+        assertEquals(account, reloaded.getAccountName());
+        assertEquals(saved.getCategory(), reloaded.getCategory());
+        assertNotEquals(NameDictionary.UNKNOWN_ID, nameDictionary.idOf(NameDictionary.Kind.CATEGORY, saved.getCategory()));
+    }
+
+    @Test
+    void shouldForgetNamesRegisteredByARolledBackTransaction() {
+        String name = "RolledBack-" + System.nanoTime();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Integer id = nameDictionary.register(NameDictionary.Kind.ACCOUNT, name);
+            assertEquals(id, nameDictionary.idOf(NameDictionary.Kind.ACCOUNT, name));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(NameDictionary.UNKNOWN_ID, nameDictionary.idOf(NameDictionary.Kind.ACCOUNT, name));
+    }
+}
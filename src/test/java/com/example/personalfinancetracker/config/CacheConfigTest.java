@@ -0,0 +1,82 @@
+package com.example.personalfinancetracker.config;
+
+import com.example.personalfinancetracker.repository.BalanceCheckpointRepository;
+import com.example.personalfinancetracker.repository.TransactionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Objects;
+
+import static com.example.personalfinancetracker.util.ApiConstant.API_PREFIX;
+import static com.example.personalfinancetracker.util.TransactionTestUtils.createAndSaveTransaction;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class CacheConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private BalanceCheckpointRepository balanceCheckpointRepository;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository.deleteAll();
+        balanceCheckpointRepository.deleteAll();
+        Objects.requireNonNull(cacheManager.getCache("balanceCache")).clear();
+    }
+
+    @Test
+    public void shouldBoundBalanceCacheWithConfiguredLimits() {
+        Cache<Object, Object> balanceCache = nativeCache("balanceCache");
+
+        assertEquals(10_000, balanceCache.policy().eviction().orElseThrow().getMaximum());
+        assertEquals(Duration.ofHours(1), balanceCache.policy().expireAfterWrite().orElseThrow().getExpiresAfter());
+        assertEquals(Duration.ofMinutes(15), balanceCache.policy().expireAfterAccess().orElseThrow().getExpiresAfter());
+    }
+
+    @Test
+    public void shouldFallBackToDefaultSpecForUnconfiguredCaches() {
+        Cache<Object, Object> otherCache = nativeCache("someOtherCache");
+
+        assertEquals(1_000, otherCache.policy().eviction().orElseThrow().getMaximum());
+        assertTrue(otherCache.policy().expireAfterAccess().isEmpty());
+    }
+
+    @Test
+    public void shouldRecordHitAndMissStatistics() throws Exception {
+        createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(100), "Income", "Salary", null);
+        CacheStats before = nativeCache("balanceCache").stats();
+
+        mockMvc.perform(get(API_PREFIX.getValue() + "/balance/Aylin")).andExpect(status().isOk());
+        mockMvc.perform(get(API_PREFIX.getValue() + "/balance/Aylin")).andExpect(status().isOk());
+
+        CacheStats delta = nativeCache("balanceCache").stats().minus(before);
+        assertEquals(1, delta.missCount());
+        assertEquals(1, delta.hitCount());
+    }
+
+    private Cache<Object, Object> nativeCache(String name) {
+        return ((CaffeineCache) Objects.requireNonNull(cacheManager.getCache(name))).getNativeCache();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.personalfinancetracker.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionLimitingDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Test
+    void shouldTimeOutWhenAllPermitsAreCheckedOut() throws SQLException {
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, Duration.ofMillis(20));
+
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+    }
+
+    @Test
+    void shouldReturnPermitOnceWhenConnectionIsClosed() throws SQLException {
+        Connection raw = mock(Connection.class);
+        when(target.getConnection()).thenReturn(raw);
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 2, Duration.ofMillis(20));
+
+        Connection connection = dataSource.getConnection();
+        assertEquals(1, dataSource.availablePermits());
+        connection.close();
+        connection.close();
+
+        assertEquals(2, dataSource.availablePermits());
+        verify(raw, times(2)).close();
+    }
+
+    @Test
+    void shouldReturnPermitOnceWhenConnectionIsAborted() throws SQLException {
+        Connection raw = mock(Connection.class);
+        when(target.getConnection()).thenReturn(raw);
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 2, Duration.ofMillis(20));
+        Executor executor = Runnable::run;
+
+        Connection connection = dataSource.getConnection();
+        connection.abort(executor);
+        connection.close();
+
+        assertEquals(2, dataSource.availablePermits());
+        verify(raw).abort(executor);
+    }
+
+    @Test
+    void shouldReturnPermitWhenPoolFails() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, Duration.ofMillis(20));
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+
+        assertEquals(1, dataSource.availablePermits());
+    }
+}
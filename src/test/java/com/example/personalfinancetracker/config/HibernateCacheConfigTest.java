@@ -0,0 +1,167 @@
+package com.example.personalfinancetracker.config;
+
+import com.example.personalfinancetracker.domain.ExportFormat;
+import com.example.personalfinancetracker.domain.TotalsMode;
+import com.example.personalfinancetracker.domain.Transaction;
+import com.example.personalfinancetracker.dto.PagedTransactionResponseDTO;
+import com.example.personalfinancetracker.dto.TransactionRequestDTO;
+import com.example.personalfinancetracker.dto.TransactionResponseDTO;
+import com.example.personalfinancetracker.dto.TransactionSearchCriteriaDTO;
+import com.example.personalfinancetracker.repository.BalanceCheckpointRepository;
+import com.example.personalfinancetracker.repository.TransactionRepository;
+import com.example.personalfinancetracker.repository.TransactionRollupRepository;
+import com.example.personalfinancetracker.repository.impl.CustomTransactionRepositoryImpl;
+import com.example.personalfinancetracker.service.TransactionExportService;
+import com.example.personalfinancetracker.service.TransactionService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:finance-l2-testdb",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class HibernateCacheConfigTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionExportService transactionExportService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private BalanceCheckpointRepository balanceCheckpointRepository;
+
+    @Autowired
+    private TransactionRollupRepository transactionRollupRepository;
+
+    @Autowired
+    private javax.cache.CacheManager hibernateCacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository.deleteAll();
+        balanceCheckpointRepository.deleteAll();
+        transactionRollupRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldSizeRegionsFromProperties() {
+        Policy<?, ?> entityRegion = regionPolicy(Transaction.CACHE_REGION);
+        Policy<?, ?> searchRegion = regionPolicy(CustomTransactionRepositoryImpl.SEARCH_REGION);
+
+        assertEquals(Optional.of(50_000L), entityRegion.eviction().map(Policy.Eviction::getMaximum));
+        assertEquals(Optional.of(Duration.ofHours(1)),
+                entityRegion.expireAfterWrite().map(Policy.FixedExpiration::getExpiresAfter));
+        assertEquals(Optional.of(5_000L), searchRegion.eviction().map(Policy.Eviction::getMaximum));
+        assertEquals(Optional.of(Duration.ofMinutes(5)),
+                searchRegion.expireAfterWrite().map(Policy.FixedExpiration::getExpiresAfter));
+    }
+
+    @Test
+    void shouldServeFindByIdFromSecondLevelCacheAndSeeUpdates() {
+        TransactionResponseDTO added = transactionService.addTransaction(request("Aylin", "-10.00"));
+        statistics.clear();
+
+        assertEquals(0, new BigDecimal("-10.00").compareTo(transactionRepository.findById(added.getId()).orElseThrow().getAmount()));
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+
+        transactionService.updateTransaction(added.getId(), request("Aylin", "-25.00"));
+        Transaction updated = transactionRepository.findById(added.getId()).orElseThrow();
+
+        assertEquals(0, new BigDecimal("-25.00").compareTo(updated.getAmount()));
+        assertEquals(1L, updated.getVersion());
+    }
+
+    @Test
+    void shouldServeRepeatedSearchFromQueryCacheUntilATransactionIsWritten() {
+        transactionService.addTransaction(request("Aylin", "-10.00"));
+        transactionService.addTransaction(request("Aylin", "-20.00"));
+
+        search();
+        statistics.clear();
+        PagedTransactionResponseDTO repeated = search();
+
+        assertTrue(statistics.getQueryCacheHitCount() >= 2);
+        assertEquals(2L, repeated.getTotalRecords());
+
+        transactionService.addTransaction(request("Aylin", "-5.00"));
+        PagedTransactionResponseDTO afterWrite = search();
+
+        assertEquals(3L, afterWrite.getTotalRecords());
+        assertEquals(3, afterWrite.getTransactions().size());
+        assertEquals(0, new BigDecimal("-35.00").compareTo(afterWrite.getTotalBalance()));
+    }
+
+    @Test
+    void shouldNotServeDeletedTransactionsFromCache() {
+        TransactionResponseDTO added = transactionService.addTransaction(request("Aylin", "-10.00"));
+        transactionRepository.findById(added.getId());
+        search();
+
+        transactionService.deleteTransaction(added.getId());
+
+        assertTrue(transactionRepository.findById(added.getId()).isEmpty());
+        assertEquals(0L, search().getTotalRecords());
+    }
+
+    @Test
+    void shouldStreamExportsPastTheSecondLevelCache() throws Exception {
+        transactionService.addTransaction(request("Aylin", "-10.00"));
+        transactionService.addTransaction(request("Aylin", "-20.00"));
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+        TransactionSearchCriteriaDTO criteria = new TransactionSearchCriteriaDTO();
+        criteria.setAccountName("Aylin");
+
+        long exported = transactionExportService.exportTransactions(criteria,
+                transactionExportService.exportSort("createdAt", "asc"), ExportFormat.NDJSON, new ByteArrayOutputStream());
+
+        assertEquals(2, exported);
+        assertEquals(0, statistics.getSecondLevelCachePutCount());
+        assertEquals(0, statistics.getSecondLevelCacheHitCount());
+    }
+
+    private Policy<?, ?> regionPolicy(String region) {
+        Cache<?, ?> cache = hibernateCacheManager.getCache(region).unwrap(Cache.class);
+        return cache.policy();
+    }
+
+    private PagedTransactionResponseDTO search() {
+        TransactionSearchCriteriaDTO criteria = new TransactionSearchCriteriaDTO();
+        criteria.setAccountName("Aylin");
+        return transactionService.searchTransactions(criteria, 0, 10, "createdAt", "desc", null, TotalsMode.EXACT);
+    }
+
+    private static TransactionRequestDTO request(String accountName, String amount) {
+        TransactionRequestDTO request = new TransactionRequestDTO();
+        request.setAccountName(accountName);
+        request.setAmount(new BigDecimal(amount));
+        request.setCategory("Food");
+        request.setDescription("Lunch");
+        return request;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.personalfinancetracker.config;
+
+import com.example.personalfinancetracker.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static com.example.personalfinancetracker.util.ApiConstant.API_PREFIX;
+import static com.example.personalfinancetracker.util.TransactionTestUtils.createAndSaveTransaction;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:finance-metrics-testdb")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+public class MetricsConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Test
+    public void shouldExposeServiceQueryCacheAndPoolMetricsForScraping() throws Exception {
+        createAndSaveTransaction(transactionRepository, "Metrics", BigDecimal.valueOf(10), "Income", "Salary", null);
+        mockMvc.perform(get(API_PREFIX.getValue()).param("accountName", "Metrics")).andExpect(status().isOk());
+        mockMvc.perform(get(API_PREFIX.getValue() + "/balance/Metrics")).andExpect(status().isOk());
+        mockMvc.perform(get(API_PREFIX.getValue() + "/balance/Metrics")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "finance_service_seconds{class=\"com.example.personalfinancetracker.service.TransactionService\",exception=\"none\",method=\"searchTransactions\",quantile=\"0.95\"")))
+                .andExpect(content().string(containsString(
+                        "finance_repository_query_seconds_count{class=\"com.example.personalfinancetracker.repository.impl.CustomTransactionRepositoryImpl\",exception=\"none\",method=\"findTransactionsByCriteria\"")))
+                .andExpect(content().string(containsString("finance_search_rows{quantile=\"0.99\"")))
+                .andExpect(content().string(containsString("cache_gets_total{cache=\"balanceCache\",cache_manager=\"cacheManager\",name=\"balanceCache\",result=\"hit\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_acquire_seconds{pool=")));
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.personalfinancetracker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:finance-virtual-testdb",
+        "spring.datasource.hikari.maximum-pool-size=4"
+})
+public class ThreadingConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void shouldLimitConnectionsToPoolSizeInVirtualThreadMode() throws Exception {
+        ConnectionLimitingDataSource limited = assertInstanceOf(ConnectionLimitingDataSource.class, dataSource);
+
+        assertEquals(4, limited.getLimit());
+        assertInstanceOf(HikariDataSource.class, limited.unwrap(HikariDataSource.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT 1", Integer.class));
+        assertEquals(4, limited.availablePermits());
+    }
+}
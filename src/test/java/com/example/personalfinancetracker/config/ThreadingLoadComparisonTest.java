@@ -0,0 +1,143 @@
+package com.example.personalfinancetracker.config;
+
+import com.example.personalfinancetracker.PersonalFinanceTrackerApplication;
+import com.example.personalfinancetracker.dto.TransactionRequestDTO;
+import com.example.personalfinancetracker.service.TransactionService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the same search and balance workload against the application in platform-thread and virtual-thread mode
+ * and logs throughput and latency percentiles for both. Opt-in, as it takes about a minute:
+ * {@code mvn test -Dtest=ThreadingLoadComparisonTest -Dfinance.loadtest.threading=true}.
+ */
+@EnabledIfSystemProperty(named = "finance.loadtest.threading", matches = "true")
+class ThreadingLoadComparisonTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadingLoadComparisonTest.class);
+
+    private static final int ACCOUNTS = 20;
+    private static final int TRANSACTIONS_PER_ACCOUNT = 1_000;
+    private static final int REQUESTS = 4_000;
+    private static final int IN_FLIGHT = 200;
+
+    @Test
+    void shouldServeWorkloadInBothThreadingModes() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        log.info("platform threads: {}", platform);
+        log.info("virtual threads:  {}", virtual);
+        assertEquals(0, platform.errors());
+        assertEquals(0, virtual.errors());
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PersonalFinanceTrackerApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:finance-load-" + mode,
+                        "spring.datasource.hikari.maximum-pool-size=10",
+                        "server.tomcat.threads.max=50",
+                        "logging.level.com.example.personalfinancetracker=WARN")
+                .run()) {
+            seed(context.getBean(TransactionService.class));
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            return fire("http://localhost:" + port + "/api/v1/transactions");
+        }
+    }
+
+    private void seed(TransactionService transactionService) {
+        List<TransactionRequestDTO> requests = new ArrayList<>();
+        for (int account = 0; account < ACCOUNTS; account++) {
+            for (int i = 0; i < TRANSACTIONS_PER_ACCOUNT; i++) {
+                TransactionRequestDTO request = new TransactionRequestDTO();
+                request.setAccountName("account-" + account);
+                request.setAmount(BigDecimal.valueOf(i % 7 == 0 ? 250 : -12));
+                request.setCategory(i % 7 == 0 ? "Income" : "Food");
+                request.setDescription("Load test row " + i);
+                requests.add(request);
+            }
+        }
+        transactionService.addTransactions(requests);
+    }
+
+    private Result fire(String baseUrl) throws Exception {
+        HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+        Semaphore inFlight = new Semaphore(IN_FLIGHT);
+        AtomicInteger errors = new AtomicInteger();
+        long[] latencies = new long[REQUESTS];
+        LocalDate today = LocalDate.now();
+
+        long started = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                int request = i;
+                String account = "account-" + (i % ACCOUNTS);
+                URI uri = URI.create(i % 2 == 0
+                        ? baseUrl + "?accountName=" + account + "&category=Food&size=20"
+                        : baseUrl + "/balance/" + account + "?date=" + today.minusDays(i % 365));
+                inFlight.acquire();
+                futures.add(clients.submit(() -> {
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(
+                                HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies[request] = System.nanoTime() - start;
+                        inFlight.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+        Arrays.sort(latencies);
+        return new Result(REQUESTS * 1e9 / elapsed, percentile(latencies, 50), percentile(latencies, 95),
+                percentile(latencies, 99), errors.get());
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private record Result(double requestsPerSecond, double p50Millis, double p95Millis, double p99Millis, int errors) {
+        @Override
+        public String toString() {
+            return String.format("%.0f req/s, p50 %.1f ms, p95 %.1f ms, p99 %.1f ms, %d errors",
+                    requestsPerSecond, p50Millis, p95Millis, p99Millis, errors);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.personalfinancetracker.controller;
 
 import com.example.personalfinancetracker.domain.Transaction;
 import com.example.personalfinancetracker.dto.TransactionRequestDTO;
+import com.example.personalfinancetracker.repository.BalanceCheckpointRepository;
 import com.example.personalfinancetracker.repository.TransactionRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +27,7 @@ import java.util.concurrent.TimeUnit;
 import static com.example.personalfinancetracker.util.ApiConstant.API_PREFIX;
 import static com.example.personalfinancetracker.util.TransactionTestUtils.createAndSaveTransaction;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -43,12 +45,16 @@ public class TransactionErrorIntegrationTest {
     @Autowired
     private TransactionRepository transactionRepository;
 
+    @Autowired
+    private BalanceCheckpointRepository balanceCheckpointRepository;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
         transactionRepository.deleteAll();
+        balanceCheckpointRepository.deleteAll();
     }
 
     @Test
@@ -64,6 +70,105 @@ public class TransactionErrorIntegrationTest {
                 .andExpect(jsonPath("$.message", containsString("Category is required")));
     }
 
+    @Test
+    public void shouldRejectWholeBatchWhenAnyTransactionIsInvalid() throws Exception {
+        String invalidBatch = "{\"transactions\": ["
+                + "{\"accountName\": \"Aylin\", \"amount\": 10, \"category\": \"Food\"},"
+                + "{\"accountName\": \"Aylin\", \"category\": \"Food\"}]}";
+
+        mockMvc.perform(post(API_PREFIX.getValue() + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(invalidBatch))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("transactions[1].amount: Amount is required")));
+
+        assertEquals(0, transactionRepository.count());
+    }
+
+    @Test
+    public void shouldRejectEmptyBatch() throws Exception {
+        mockMvc.perform(post(API_PREFIX.getValue() + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"transactions\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("At least one transaction is required")));
+    }
+
+    @Test
+    public void shouldRejectAccountListingWithInvertedDateRange() throws Exception {
+        mockMvc.perform(get(API_PREFIX.getValue() + "/account/Aylin")
+                        .param("fromDate", "2025-03-10")
+                        .param("toDate", "2025-03-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("From date cannot be after to date")));
+    }
+
+    @Test
+    public void shouldRejectExportWithUnknownFormat() throws Exception {
+        mockMvc.perform(get(API_PREFIX.getValue() + "/export")
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Invalid format: xml. Expected ndjson or csv")));
+    }
+
+    @Test
+    public void shouldReturnNotFoundWhenBatchBalanceNamesUnknownAccount() throws Exception {
+        createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(100), "Income", "Salary", null);
+
+        mockMvc.perform(post(API_PREFIX.getValue() + "/balance/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"balances\": [{\"accountName\": \"Aylin\"}, {\"accountName\": \"Ghost\"}]}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void shouldRejectEmptyBatchBalanceRequest() throws Exception {
+        mockMvc.perform(post(API_PREFIX.getValue() + "/balance/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"balances\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void shouldRejectBalanceSeriesWithoutStartDate() throws Exception {
+        mockMvc.perform(get(API_PREFIX.getValue() + "/balance/Aylin/series"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("'from'")));
+    }
+
+    @Test
+    public void shouldRejectBalanceSeriesWithTooManyPoints() throws Exception {
+        mockMvc.perform(get(API_PREFIX.getValue() + "/balance/Aylin/series")
+                        .param("from", "2000-01-01")
+                        .param("to", "2025-01-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Balance series cannot have more than 3660 points")));
+    }
+
+    @Test
+    public void shouldRejectSummaryWithUnknownGrouping() throws Exception {
+        mockMvc.perform(get(API_PREFIX.getValue() + "/summary")
+                        .param("groupBy", "description"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Invalid groupBy: description. Expected category or account")));
+    }
+
+    @Test
+    public void shouldRejectExportWithUnsupportedSortField() throws Exception {
+        mockMvc.perform(get(API_PREFIX.getValue() + "/export")
+                        .param("sortBy", "description"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Export is not supported for sort field: description")));
+    }
+
+    @Test
+    public void shouldRejectImportWithUnsupportedContentType() throws Exception {
+        mockMvc.perform(post(API_PREFIX.getValue() + "/import")
+                        .contentType(MediaType.APPLICATION_XML)
+                        .content("<transactions/>"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
     @Test
     public void shouldReturnErrorWhenUpdatingNonExistingTransaction() throws Exception {
         TransactionRequestDTO updateRequest = new TransactionRequestDTO();
@@ -113,6 +218,43 @@ public class TransactionErrorIntegrationTest {
                 .andExpect(jsonPath("$.message", containsString("From date cannot be after to date")));
     }
 
+    @Test
+    public void shouldReturnErrorForInvalidTotalsMode() throws Exception {
+        mockMvc.perform(get(API_PREFIX.getValue())
+                        .param("includeTotals", "sometimes"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("Invalid includeTotals: sometimes")));
+    }
+
+    @Test
+    public void shouldReturnErrorForMalformedCursor() throws Exception {
+        mockMvc.perform(get(API_PREFIX.getValue())
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("Invalid cursor")));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenCursorDoesNotMatchSort() throws Exception {
+        createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(10), "Food", "Lunch", null);
+        createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(20), "Food", "Dinner", null);
+
+        String body = mockMvc.perform(get(API_PREFIX.getValue())
+                        .param("size", "1")
+                        .param("sortBy", "amount")
+                        .param("sortDir", "asc"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        mockMvc.perform(get(API_PREFIX.getValue())
+                        .param("size", "1")
+                        .param("sortBy", "createdAt")
+                        .param("cursor", cursor))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("Cursor does not match sort")));
+    }
+
     @Test
     public void shouldReturnErrorWhenRequestingBalanceForNonExistentAccount() throws Exception {
         mockMvc.perform(get(API_PREFIX.getValue() + "/balance/Alien"))
@@ -1,8 +1,12 @@
 package com.example.personalfinancetracker.controller;
 
 import com.example.personalfinancetracker.domain.Transaction;
+import com.example.personalfinancetracker.dto.BatchTransactionRequestDTO;
 import com.example.personalfinancetracker.dto.TransactionRequestDTO;
+import com.example.personalfinancetracker.dto.TransactionResponseDTO;
+import com.example.personalfinancetracker.repository.BalanceCheckpointRepository;
 import com.example.personalfinancetracker.repository.TransactionRepository;
+import com.example.personalfinancetracker.repository.TransactionRollupRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,11 +15,16 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import static com.example.personalfinancetracker.util.ApiConstant.API_PREFIX;
@@ -35,15 +44,26 @@ public class TransactionIntegrationTest {
     @Autowired
     private TransactionRepository transactionRepository;
 
+    @Autowired
+    private BalanceCheckpointRepository balanceCheckpointRepository;
+
+    @Autowired
+    private TransactionRollupRepository transactionRollupRepository;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @BeforeEach
     void setUp() {
         transactionRepository.deleteAll();
+        balanceCheckpointRepository.deleteAll();
+        transactionRollupRepository.deleteAll();
         Objects.requireNonNull(cacheManager.getCache("balanceCache")).clear();
     }
 
@@ -76,6 +96,90 @@ public class TransactionIntegrationTest {
                 .andExpect(jsonPath("$[0].accountName", is("Aylin")));
     }
 
+    @Test
+    public void shouldFindBalanceOfAccountCreatedAfterStartup() throws Exception {
+        mockMvc.perform(get(API_PREFIX.getValue() + "/balance/Deniz"))
+                .andExpect(status().isNotFound());
+
+        createAndSaveTransaction(transactionRepository, "Deniz", new BigDecimal("42.00"), "Income", "Gift", null);
+
+        mockMvc.perform(get(API_PREFIX.getValue() + "/balance/Deniz"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("42.00"));
+    }
+
+    @Test
+    public void shouldSearchDescriptionsCaseInsensitivelyThroughIndex() throws Exception {
+        createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.TEN, "Food", "Weekly GROCERY run", null);
+        createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.TEN, "Food", "groceries", null);
+        createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.TEN, "Food", "Grocer", null);
+        createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.TEN, "Food", "Çarşı grocery", null);
+        Transaction salary = createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.TEN, "Income", "Salary", null);
+
+        mockMvc.perform(get(API_PREFIX.getValue())
+                        .param("description", "Grocer"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRecords", is(4)));
+        mockMvc.perform(get(API_PREFIX.getValue())
+                        .param("description", "grocery"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRecords", is(2)));
+        mockMvc.perform(get(API_PREFIX.getValue())
+                        .param("description", "gr_cer"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRecords", is(4)));
+
+        mockMvc.perform(delete(API_PREFIX.getValue() + "/" + salary.getId()))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get(API_PREFIX.getValue())
+                        .param("description", "salary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRecords", is(0)));
+    }
+
+    @Test
+    public void shouldPageAccountTransactionsWithNextLink() throws Exception {
+        LocalDateTime start = LocalDateTime.of(2025, 3, 1, 9, 0);
+        for (int day = 0; day < 5; day++) {
+            createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.TEN, "Income", "Day " + day, start.plusDays(day));
+        }
+
+        mockMvc.perform(get(API_PREFIX.getValue() + "/account/Aylin")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Has-Next", "true"))
+                .andExpect(header().string("Link", containsString("page=1")))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].description", is("Day 0")));
+
+        mockMvc.perform(get(API_PREFIX.getValue() + "/account/Aylin")
+                        .param("page", "2")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Has-Next", "false"))
+                .andExpect(header().doesNotExist("Link"))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].description", is("Day 4")));
+
+        mockMvc.perform(get(API_PREFIX.getValue() + "/account/Aylin")
+                        .param("fromDate", "2025-03-02")
+                        .param("toDate", "2025-03-03"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].description", is("Day 1")))
+                .andExpect(jsonPath("$[1].description", is("Day 2")));
+    }
+
+    @Test
+    public void shouldRedirectFullAccountHistoryToExport() throws Exception {
+        mockMvc.perform(get(API_PREFIX.getValue() + "/account/Aylin")
+                        .param("all", "true")
+                        .param("fromDate", "2025-03-01"))
+                .andExpect(status().isSeeOther())
+                .andExpect(header().string("Location",
+                        "http://localhost" + API_PREFIX.getValue() + "/export?accountName=Aylin&fromDate=2025-03-01"));
+    }
+
     @Test
     public void shouldUpdateTransactionSuccessfully() throws Exception {
         var tx = createAndSaveTransaction(transactionRepository,"Aylin", BigDecimal.valueOf(50), "Income", "Salary", null);
@@ -287,4 +391,542 @@ public class TransactionIntegrationTest {
         assertNotNull(cachedBalance);
         assertEquals(new BigDecimal("100.00"), cachedBalance);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldKeepBalanceCheckpointsInSyncWithWrites() throws Exception {
+        createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(40), "Income", "Gift",
+                LocalDateTime.now().minusDays(3));
+
+        Long salaryId = postTransaction("Aylin", BigDecimal.valueOf(100), "Income", "Salary").getId();
+        Long groceriesId = postTransaction("Aylin", BigDecimal.valueOf(-30), "Expense", "Groceries").getId();
+
+        TransactionRequestDTO moveRequest = new TransactionRequestDTO();
+        moveRequest.setAccountName("Nazli");
+        moveRequest.setAmount(BigDecimal.valueOf(-30));
+        moveRequest.setCategory("Expense");
+        moveRequest.setDescription("Groceries");
+        mockMvc.perform(put(API_PREFIX.getValue() + "/" + groceriesId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(moveRequest)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete(API_PREFIX.getValue() + "/" + salaryId))
+                .andExpect(status().isNoContent());
+
+        var aylinCheckpoint = balanceCheckpointRepository
+                .findFirstByAccountNameAndCheckpointDateLessThanEqualOrderByCheckpointDateDesc("Aylin", LocalDate.now())
+                .orElseThrow();
+        assertEquals(LocalDate.now(), aylinCheckpoint.getCheckpointDate());
+        assertEquals(0, new BigDecimal("40").compareTo(aylinCheckpoint.getBalance()));
+
+        mockMvc.perform(get(API_PREFIX.getValue() + "/balance/Aylin"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("40.00"));
+        mockMvc.perform(get(API_PREFIX.getValue() + "/balance/Nazli"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("-30.00"));
+    }
+
+    @Test
+    public void shouldEvictOnlyAffectedAccountBalancesFromTransactionDate() throws Exception {
+        LocalDate today = LocalDate.now();
+        LocalDate yesterday = today.minusDays(1);
+        createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(100), "Income", "Salary",
+                yesterday.atStartOfDay());
+        createAndSaveTransaction(transactionRepository, "Nazli", BigDecimal.valueOf(20), "Income", "Gift",
+                yesterday.atStartOfDay());
+
+        for (String path : new String[]{"/balance/Aylin", "/balance/Nazli"}) {
+            for (LocalDate date : new LocalDate[]{yesterday, today}) {
+                mockMvc.perform(get(API_PREFIX.getValue() + path).param("date", date.toString()))
+                        .andExpect(status().isOk());
+            }
+        }
+
+        postTransaction("Aylin", BigDecimal.valueOf(-10), "Expense", "Coffee");
+
+        var cache = Objects.requireNonNull(cacheManager.getCache("balanceCache"));
+        assertNotNull(cache.get("Aylin_" + yesterday));
+        assertNull(cache.get("Aylin_" + today));
+        assertNotNull(cache.get("Nazli_" + yesterday));
+        assertNotNull(cache.get("Nazli_" + today));
+
+        mockMvc.perform(get(API_PREFIX.getValue() + "/balance/Aylin").param("date", today.toString()))
+                .andExpect(status().isOk())
+                .andExpect(content().string("90.00"));
+    }
+
+    @Test
+    public void shouldWalkAllPagesWithCursor() throws Exception {
+        LocalDateTime sameTime = LocalDateTime.of(2025, 2, 12, 9, 0);
+        List<Long> expectedIds = List.of(
+                createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(10), "Food", "Breakfast",
+                        LocalDateTime.of(2025, 2, 10, 9, 0)).getId(),
+                createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(20), "Food", "Lunch",
+                        sameTime).getId(),
+                createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(30), "Food", "Dinner",
+                        sameTime).getId(),
+                createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(40), "Food", "Snack",
+                        sameTime).getId(),
+                createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(50), "Food", "Brunch",
+                        LocalDateTime.of(2025, 2, 14, 9, 0)).getId());
+
+        List<Long> seenIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = get(API_PREFIX.getValue())
+                    .param("accountName", "Aylin")
+                    .param("size", "2")
+                    .param("sortBy", "createdAt")
+                    .param("sortDir", "asc");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalRecords", is(5)))
+                    .andReturn().getResponse().getContentAsString();
+            var page = objectMapper.readTree(body);
+            page.get("transactions").forEach(tx -> seenIds.add(tx.get("id").asLong()));
+            cursor = page.hasNonNull("nextCursor") ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+
+        assertEquals(expectedIds, seenIds);
+    }
+
+    @Test
+    public void shouldWalkPagesPastMissingCategories() throws Exception {
+        Long food = createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(10), "Food", "Lunch",
+                null).getId();
+        Long firstUncategorized = createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(20), null,
+                "Cash", null).getId();
+        Long rent = createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(30), "Rent", "March",
+                null).getId();
+        Long secondUncategorized = createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(40), null,
+                "Cash", null).getId();
+
+        Map<String, List<Long>> expectedIds = Map.of(
+                "asc", List.of(firstUncategorized, secondUncategorized, food, rent),
+                "desc", List.of(rent, food, secondUncategorized, firstUncategorized));
+        for (Map.Entry<String, List<Long>> expected : expectedIds.entrySet()) {
+            List<Long> seenIds = new ArrayList<>();
+            String cursor = null;
+            do {
+                var request = get(API_PREFIX.getValue())
+                        .param("accountName", "Aylin")
+                        .param("size", "1")
+                        .param("sortBy", "category")
+                        .param("sortDir", expected.getKey());
+                if (cursor != null) {
+                    request.param("cursor", cursor);
+                }
+                String body = mockMvc.perform(request)
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse().getContentAsString();
+                var page = objectMapper.readTree(body);
+                page.get("transactions").forEach(tx -> seenIds.add(tx.get("id").asLong()));
+                cursor = page.hasNonNull("nextCursor") ? page.get("nextCursor").asText() : null;
+            } while (cursor != null);
+
+            assertEquals(expected.getValue(), seenIds, expected.getKey());
+        }
+    }
+
+    @Test
+    public void shouldStoreDictionaryIdsAndSortByName() throws Exception {
+        createAndSaveTransaction(transactionRepository, "Zeynep", BigDecimal.valueOf(10), "Travel", "Train", null);
+        createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(20), "Food", "Lunch", null);
+        createAndSaveTransaction(transactionRepository, "Mert", BigDecimal.valueOf(30), "Rent", "March", null);
+
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transaction t JOIN account a ON a.id = t.account_id "
+                        + "JOIN category c ON c.id = t.category_id", Integer.class));
+
+        List<String> seenAccounts = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = get(API_PREFIX.getValue())
+                    .param("size", "2")
+                    .param("sortBy", "accountName")
+                    .param("sortDir", "asc");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            var page = objectMapper.readTree(body);
+            page.get("transactions").forEach(tx -> seenAccounts.add(tx.get("accountName").asText()));
+            cursor = page.hasNonNull("nextCursor") ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+        assertEquals(List.of("Aylin", "Mert", "Zeynep"), seenAccounts);
+
+        mockMvc.perform(get(API_PREFIX.getValue())
+                        .param("category", "Travel"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRecords", is(1)))
+                .andExpect(jsonPath("$.transactions[0].category", is("Travel")));
+        mockMvc.perform(get(API_PREFIX.getValue())
+                        .param("accountName", "Nobody"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRecords", is(0)));
+    }
+
+    @Test
+    public void shouldOmitTotalsWhenNotRequested() throws Exception {
+        createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(50), "Income", "Salary", null);
+        createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(-20), "Expense", "Groceries", null);
+
+        mockMvc.perform(get(API_PREFIX.getValue())
+                        .param("size", "1")
+                        .param("includeTotals", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactions", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andExpect(jsonPath("$.totalRecords").doesNotExist())
+                .andExpect(jsonPath("$.totalBalance").doesNotExist());
+
+        mockMvc.perform(get(API_PREFIX.getValue())
+                        .param("page", "1")
+                        .param("size", "1")
+                        .param("includeTotals", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactions", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext", is(false)));
+    }
+
+    @Test
+    public void shouldReturnEstimatedTotalsWhenRequested() throws Exception {
+        createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(50), "Income", "Salary", null);
+        createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(-20), "Expense", "Groceries", null);
+
+        mockMvc.perform(get(API_PREFIX.getValue())
+                        .param("accountName", "Aylin")
+                        .param("includeTotals", "estimated"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRecords", is(2)))
+                .andExpect(jsonPath("$.totalsEstimated", is(true)))
+                .andExpect(jsonPath("$.totalBalance").doesNotExist());
+    }
+
+    @Test
+    public void shouldAddTransactionsInBatch() throws Exception {
+        BatchTransactionRequestDTO batch = new BatchTransactionRequestDTO();
+        batch.setTransactions(List.of(
+                transactionRequest("Aylin", BigDecimal.valueOf(100), "Income", "Salary"),
+                transactionRequest("Aylin", BigDecimal.valueOf(-25), "Expense", "Groceries"),
+                transactionRequest("Nazli", BigDecimal.valueOf(60), "Income", "Bonus")));
+
+        mockMvc.perform(post(API_PREFIX.getValue() + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].id").exists())
+                .andExpect(jsonPath("$[2].accountName", is("Nazli")));
+
+        assertEquals(3, transactionRepository.count());
+        mockMvc.perform(get(API_PREFIX.getValue() + "/balance/Aylin"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("75.00"));
+        mockMvc.perform(get(API_PREFIX.getValue() + "/balance/Nazli"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("60.00"));
+    }
+
+    @Test
+    public void shouldImportTransactionsFromCsv() throws Exception {
+        String csv = """
+                accountName,amount,category,description
+                Aylin,100.00,Income,Salary
+                Aylin,,Food,Missing amount
+                Nazli,-15.50,Food,"Lunch, with friends"
+                """;
+
+        mockMvc.perform(post(API_PREFIX.getValue() + "/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", is(2)))
+                .andExpect(jsonPath("$.rejected", is(1)))
+                .andExpect(jsonPath("$.errors[0].row", is(2)))
+                .andExpect(jsonPath("$.errors[0].message", is("amount: Amount is required")));
+
+        mockMvc.perform(get(API_PREFIX.getValue() + "/account/Nazli"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].description", is("Lunch, with friends")));
+        mockMvc.perform(get(API_PREFIX.getValue() + "/balance/Aylin"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("100.00"));
+    }
+
+    @Test
+    public void shouldImportTransactionsFromNdjson() throws Exception {
+        String ndjson = """
+                {"accountName": "Aylin", "amount": 40, "category": "Income", "description": "Gift"}
+                {"accountName": "Aylin", "amount": -10, "category": "Food", "description": "Coffee"}
+                """;
+
+        mockMvc.perform(post(API_PREFIX.getValue() + "/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", is(2)))
+                .andExpect(jsonPath("$.rejected", is(0)));
+
+        mockMvc.perform(get(API_PREFIX.getValue() + "/balance/Aylin"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("30.00"));
+    }
+
+    @Test
+    public void shouldStreamNdjsonExportInCreationOrder() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        Transaction first = createAndSaveTransaction(transactionRepository, "Aylin", new BigDecimal("100.00"), "Income", "Salary", now.minusDays(2));
+        Transaction second = createAndSaveTransaction(transactionRepository, "Aylin", new BigDecimal("-25.00"), "Food", "Groceries", now.minusDays(1));
+        createAndSaveTransaction(transactionRepository, "Nazli", new BigDecimal("50.00"), "Income", "Gift", now);
+
+        MvcResult started = mockMvc.perform(get(API_PREFIX.getValue() + "/export")
+                        .param("accountName", "Aylin"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        List<TransactionResponseDTO> exported = body.lines()
+                .map(line -> {
+                    try {
+                        return objectMapper.readValue(line, TransactionResponseDTO.class);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+        assertEquals(List.of(first.getId(), second.getId()), exported.stream().map(TransactionResponseDTO::getId).toList());
+        assertTrue(body.endsWith("\n"));
+    }
+
+    @Test
+    public void shouldStreamCsvExportWithHeader() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        createAndSaveTransaction(transactionRepository, "Aylin", new BigDecimal("-12.50"), "Food", "Lunch, with friends", now.minusDays(1));
+        createAndSaveTransaction(transactionRepository, "Aylin", new BigDecimal("100.00"), "Income", "Salary", now);
+
+        MvcResult started = mockMvc.perform(get(API_PREFIX.getValue() + "/export")
+                        .param("format", "csv")
+                        .param("sortBy", "amount")
+                        .param("sortDir", "desc"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=transactions.csv"))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = body.lines().toList();
+        assertEquals(3, lines.size());
+        assertEquals("id,accountName,amount,createdAt,updatedAt,category,description", lines.get(0));
+        assertTrue(lines.get(1).contains(",Aylin,100.00,"));
+        assertTrue(lines.get(2).endsWith(",Food,\"Lunch, with friends\""));
+    }
+
+    @Test
+    public void shouldReturnBatchBalancesAndCacheThem() throws Exception {
+        createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(100), "Income", "Salary", LocalDateTime.of(2025, 2, 10, 10, 0));
+        createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(-30), "Food", "Dinner", LocalDateTime.of(2025, 2, 12, 20, 0));
+        createAndSaveTransaction(transactionRepository, "Nazli", BigDecimal.valueOf(60), "Income", "Bonus", LocalDateTime.of(2025, 2, 11, 9, 0));
+        mockMvc.perform(get(API_PREFIX.getValue() + "/balance/Aylin").param("date", "2025-02-10"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("100.00"));
+
+        String body = """
+                {"balances": [
+                  {"accountName": "Aylin", "date": "2025-02-10"},
+                  {"accountName": "Aylin", "date": "2025-02-12"},
+                  {"accountName": "Nazli", "date": "2025-02-12"},
+                  {"accountName": "Nazli", "date": "2025-02-10"}
+                ]}
+                """;
+        mockMvc.perform(post(API_PREFIX.getValue() + "/balance/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(4)))
+                .andExpect(jsonPath("$[0].balance", is(100.00)))
+                .andExpect(jsonPath("$[1].accountName", is("Aylin")))
+                .andExpect(jsonPath("$[1].date", is("2025-02-12")))
+                .andExpect(jsonPath("$[1].balance", is(70.00)))
+                .andExpect(jsonPath("$[2].balance", is(60.00)))
+                .andExpect(jsonPath("$[3].balance", is(0.00)));
+
+        assertEquals(new BigDecimal("70.00"), Objects.requireNonNull(cacheManager.getCache("balanceCache"))
+                .get("Aylin_2025-02-12", BigDecimal.class));
+    }
+
+    @Test
+    public void shouldResolveBatchBalancesFromCheckpoints() throws Exception {
+        postTransaction("Aylin", BigDecimal.valueOf(100), "Income", "Salary");
+        postTransaction("Aylin", BigDecimal.valueOf(-30), "Food", "Dinner");
+        LocalDate today = LocalDate.now();
+
+        String body = """
+                {"balances": [
+                  {"accountName": "Aylin", "date": "%s"},
+                  {"accountName": "Aylin", "date": "%s"}
+                ]}
+                """.formatted(today, today.minusDays(1));
+        mockMvc.perform(post(API_PREFIX.getValue() + "/balance/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].balance", is(70.00)))
+                .andExpect(jsonPath("$[1].balance", is(0.00)));
+    }
+
+    @Test
+    public void shouldReturnCategoryTotalsFromRollups() throws Exception {
+        postTransaction("Aylin", BigDecimal.valueOf(1000), "Income", "Salary");
+        postTransaction("Aylin", BigDecimal.valueOf(-20), "Food", "Lunch");
+        postTransaction("Aylin", BigDecimal.valueOf(-30), "Food", "Dinner");
+        postTransaction("Aylin", BigDecimal.valueOf(-900), "Rent", "March");
+        String today = LocalDate.now().toString();
+
+        mockMvc.perform(get(API_PREFIX.getValue() + "/balance/Aylin/categories")
+                        .param("from", today)
+                        .param("to", today))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].category", is("Food")))
+                .andExpect(jsonPath("$[0].total", is(-50.00)));
+
+        mockMvc.perform(get(API_PREFIX.getValue() + "/balance/Aylin/categories")
+                        .param("from", today)
+                        .param("to", today)
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].category", is("Income")))
+                .andExpect(jsonPath("$[1].category", is("Rent")));
+    }
+
+    @Test
+    public void shouldReturnBalanceSeriesMatchingPointLookups() throws Exception {
+        LocalDate start = LocalDate.of(2025, 1, 31);
+        createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(500), "Income", "Opening", start.minusDays(3).atTime(10, 0));
+        createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(-50), "Rent", "Rent", start.atTime(23, 0));
+        createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(-20), "Food", "Dinner", LocalDate.of(2025, 2, 28).atTime(8, 0));
+        createAndSaveTransaction(transactionRepository, "Aylin", BigDecimal.valueOf(35), "Income", "Refund", LocalDate.of(2025, 3, 5).atTime(8, 0));
+        createAndSaveTransaction(transactionRepository, "Nazli", BigDecimal.valueOf(999), "Income", "Salary", LocalDate.of(2025, 3, 1).atTime(8, 0));
+
+        mockMvc.perform(get(API_PREFIX.getValue() + "/balance/Aylin/series")
+                        .param("from", start.toString())
+                        .param("to", "2025-04-15")
+                        .param("step", "month"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].date", is("2025-01-31")))
+                .andExpect(jsonPath("$[0].balance", is(450.00)))
+                .andExpect(jsonPath("$[1].date", is("2025-02-28")))
+                .andExpect(jsonPath("$[1].balance", is(430.00)))
+                .andExpect(jsonPath("$[2].date", is("2025-03-31")))
+                .andExpect(jsonPath("$[2].balance", is(465.00)));
+
+        mockMvc.perform(get(API_PREFIX.getValue() + "/balance/Aylin")
+                        .param("date", "2025-03-31"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("465.00"));
+    }
+
+    @Test
+    public void shouldSummarizeFromRollupsMaintainedByWrites() throws Exception {
+        TransactionResponseDTO lunch = postTransaction("Aylin", BigDecimal.valueOf(-20), "Food", "Lunch");
+        postTransaction("Nazli", BigDecimal.valueOf(-5), "Food", "Coffee");
+        TransactionResponseDTO salary = postTransaction("Aylin", BigDecimal.valueOf(1000), "Income", "Salary");
+        BatchTransactionRequestDTO batch = new BatchTransactionRequestDTO();
+        batch.setTransactions(List.of(
+                transactionRequest("Aylin", BigDecimal.valueOf(-30), "Food", "Dinner"),
+                transactionRequest("Aylin", BigDecimal.valueOf(-40), "Rent", "Deposit")));
+        mockMvc.perform(post(API_PREFIX.getValue() + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(put(API_PREFIX.getValue() + "/" + lunch.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                transactionRequest("Aylin", BigDecimal.valueOf(-25), "Rent", "Lunch"))))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete(API_PREFIX.getValue() + "/" + salary.getId()))
+                .andExpect(status().isNoContent());
+
+        LocalDate today = LocalDate.now();
+        String monthStart = today.withDayOfMonth(1).toString();
+        mockMvc.perform(get(API_PREFIX.getValue() + "/summary")
+                        .param("groupBy", "category")
+                        .param("period", "month")
+                        .param("from", today.toString())
+                        .param("to", today.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].group", is("Food")))
+                .andExpect(jsonPath("$[0].periodStart", is(monthStart)))
+                .andExpect(jsonPath("$[0].total", is(-35.00)))
+                .andExpect(jsonPath("$[0].count", is(2)))
+                .andExpect(jsonPath("$[1].group", is("Rent")))
+                .andExpect(jsonPath("$[1].total", is(-65.00)))
+                .andExpect(jsonPath("$[1].count", is(2)));
+
+        mockMvc.perform(get(API_PREFIX.getValue() + "/summary")
+                        .param("groupBy", "account")
+                        .param("period", "day")
+                        .param("from", today.toString())
+                        .param("to", today.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].group", is("Aylin")))
+                .andExpect(jsonPath("$[0].total", is(-95.00)))
+                .andExpect(jsonPath("$[0].count", is(3)))
+                .andExpect(jsonPath("$[1].group", is("Nazli")));
+
+        mockMvc.perform(get(API_PREFIX.getValue() + "/summary")
+                        .param("groupBy", "category")
+                        .param("period", "day")
+                        .param("from", today.toString())
+                        .param("to", today.toString())
+                        .param("accountName", "Nazli"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].group", is("Food")))
+                .andExpect(jsonPath("$[0].total", is(-5.00)))
+                .andExpect(jsonPath("$[0].count", is(1)));
+    }
+
+    private TransactionRequestDTO transactionRequest(String accountName, BigDecimal amount,
+                                                     String category, String description) {
+        TransactionRequestDTO request = new TransactionRequestDTO();
+        request.setAccountName(accountName);
+        request.setAmount(amount);
+        request.setCategory(category);
+        request.setDescription(description);
+        return request;
+    }
+
+    private TransactionResponseDTO postTransaction(String accountName, BigDecimal amount,
+                                                   String category, String description) throws Exception {
+        TransactionRequestDTO request = new TransactionRequestDTO();
+        request.setAccountName(accountName);
+        request.setAmount(amount);
+        request.setCategory(category);
+        request.setDescription(description);
+
+        String response = mockMvc.perform(post(API_PREFIX.getValue())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(response, TransactionResponseDTO.class);
+    }
+}
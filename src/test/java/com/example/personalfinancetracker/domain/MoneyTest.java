@@ -0,0 +1,55 @@
+package com.example.personalfinancetracker.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Currency JPY = Currency.getInstance("JPY");
+
+    @Test
+    void shouldConvertUsingCurrencyScale() {
+        assertEquals(12345, Money.of(new BigDecimal("123.45"), EUR).minorUnits());
+        assertEquals(123, Money.of(new BigDecimal("123"), JPY).minorUnits());
+        assertEquals(new BigDecimal("123.40"), Money.of(new BigDecimal("123.4"), EUR).toBigDecimal());
+        assertEquals(new BigDecimal("-0.01"), new Money(-1, EUR).toBigDecimal());
+    }
+
+    @Test
+    void shouldRoundHalfUpLikeTheAmountColumn() {
+        assertEquals(1001, Money.minorUnitsOf(new BigDecimal("10.005"), EUR));
+        assertEquals(-1001, Money.minorUnitsOf(new BigDecimal("-10.005"), EUR));
+    }
+
+    @Test
+    void shouldAccumulateInMinorUnits() {
+        MoneyAccumulator accumulator = new MoneyAccumulator(EUR)
+                .add(new BigDecimal("100.00"))
+                .add(new BigDecimal("-40.25"))
+                .add(Money.of(new BigDecimal("0.25"), EUR));
+
+        assertEquals(new Money(6000, EUR), accumulator.toMoney());
+        assertEquals(new BigDecimal("60.00"), accumulator.toMoney().toBigDecimal());
+    }
+
+    @Test
+    void shouldRejectOverflowInsteadOfWrapping() {
+        MoneyAccumulator accumulator = new MoneyAccumulator(EUR).add(Long.MAX_VALUE);
+
+        assertThrows(ArithmeticException.class, () -> accumulator.add(1));
+        assertThrows(ArithmeticException.class, () -> new Money(Long.MIN_VALUE, EUR).negate());
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1e20"), EUR));
+    }
+
+    @Test
+    void shouldRejectMixedCurrencies() {
+        assertThrows(IllegalArgumentException.class, () -> Money.zero(EUR).plus(Money.zero(JPY)));
+        assertThrows(IllegalArgumentException.class, () -> new MoneyAccumulator(EUR).add(Money.zero(JPY)));
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.personalfinancetracker.loadtest;
+
+import com.example.personalfinancetracker.util.SyntheticLedgerGenerator;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a {@link WorkloadProfile} against a running application over HTTP.
+ * <p>
+ * Requests are drawn from random streams split off the profile seed: one per user in the closed model, one for
+ * the dispatcher in the open model, so the same profile always produces the same requests. In the open model a
+ * request's latency is measured from when it was due to start rather than when it was sent, so a slow server is
+ * not hidden by the generator falling behind, and requests due while {@code concurrency} are already in flight
+ * are dropped and counted as errors.
+ */
+public class LoadGenerator {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int BALANCE_LOOKBACK_DAYS = 365;
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final WorkloadProfile profile;
+    private final LocalDate today = LocalDate.now();
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+
+    private long measureFrom;
+
+    public LoadGenerator(HttpClient client, String baseUrl, WorkloadProfile profile) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.profile = profile;
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder());
+        }
+    }
+
+    public LoadReport run() throws InterruptedException {
+        long started = System.nanoTime();
+        measureFrom = started + profile.getWarmup().toNanos();
+        long end = measureFrom + profile.getDuration().toNanos();
+
+        SplittableRandom seeds = new SplittableRandom(profile.getSeed());
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (profile.getArrival() == WorkloadProfile.ArrivalModel.CLOSED) {
+                for (int user = 0; user < profile.getConcurrency(); user++) {
+                    SplittableRandom random = seeds.split();
+                    senders.submit(() -> {
+                        while (System.nanoTime() < end) {
+                            Operation operation = profile.pick(random);
+                            send(operation, request(operation, random), System.nanoTime());
+                        }
+                    });
+                }
+            } else {
+                dispatch(senders, seeds.split(), started, end);
+            }
+        }
+        double seconds = (System.nanoTime() - measureFrom) / 1e9;
+        return report(seconds);
+    }
+
+    private void dispatch(ExecutorService senders, SplittableRandom random, long started, long end) {
+        Semaphore inFlight = new Semaphore(profile.getConcurrency());
+        long interval = (long) (1e9 / profile.getRatePerSecond());
+        for (long due = started; due < end; due += interval) {
+            LockSupport.parkNanos(due - System.nanoTime());
+            Operation operation = profile.pick(random);
+            HttpRequest request = request(operation, random);
+            if (!inFlight.tryAcquire()) {
+                if (due >= measureFrom) {
+                    recorders.get(operation).drop();
+                }
+                continue;
+            }
+            long scheduled = due;
+            senders.submit(() -> {
+                try {
+                    send(operation, request, scheduled);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+    }
+
+    private void send(Operation operation, HttpRequest request, long scheduled) {
+        boolean ok;
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            ok = response.statusCode() / 100 == 2;
+        } catch (Exception e) {
+            ok = false;
+        }
+        record(operation, scheduled, System.nanoTime() - scheduled, ok);
+    }
+
+    private void record(Operation operation, long scheduled, long latencyNanos, boolean ok) {
+        if (scheduled >= measureFrom) {
+            recorders.get(operation).add(latencyNanos, ok);
+        }
+    }
+
+    private HttpRequest request(Operation operation, SplittableRandom random) {
+        String account = SyntheticLedgerGenerator.accountName(random.nextInt(profile.getAccounts()));
+        return switch (operation) {
+            case SEARCH -> {
+                String category = random.nextBoolean() ? "&category=" + randomCategory(random) : "";
+                yield HttpRequest.newBuilder(URI.create(
+                        baseUrl + "?accountName=" + account + category + "&size=" + PAGE_SIZE)).GET().build();
+            }
+            case BALANCE -> HttpRequest.newBuilder(URI.create(
+                    baseUrl + "/balance/" + account + "?date=" + today.minusDays(random.nextInt(BALANCE_LOOKBACK_DAYS))))
+                    .GET().build();
+            case WRITE -> HttpRequest.newBuilder(URI.create(baseUrl))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(String.format(
+                            "{\"accountName\":\"%s\",\"amount\":%s,\"category\":\"%s\",\"description\":\"Load test\"}",
+                            account, BigDecimal.valueOf(random.nextLong(-50_000, 50_000), 2),
+                            randomCategory(random))))
+                    .build();
+        };
+    }
+
+    private static String randomCategory(SplittableRandom random) {
+        return SyntheticLedgerGenerator.CATEGORIES.get(random.nextInt(SyntheticLedgerGenerator.CATEGORIES.size()));
+    }
+
+    private LoadReport report(double seconds) {
+        Map<Operation, LoadReport.Stats> operations = new EnumMap<>(Operation.class);
+        long[] all = new long[0];
+        int dropped = 0;
+        int errors = 0;
+        for (Map.Entry<Operation, Recorder> entry : recorders.entrySet()) {
+            Recorder recorder = entry.getValue();
+            long[] latencies = recorder.latencies();
+            if (latencies.length + recorder.dropped > 0) {
+                operations.put(entry.getKey(), LoadReport.Stats.of(latencies.clone(), recorder.dropped, recorder.errors));
+            }
+            int offset = all.length;
+            all = Arrays.copyOf(all, offset + latencies.length);
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+            dropped += recorder.dropped;
+            errors += recorder.errors;
+        }
+        return new LoadReport(profile.getName(), profile.getArrival(), seconds, operations,
+                LoadReport.Stats.of(all, dropped, errors));
+    }
+
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int dropped;
+        private int errors;
+
+        synchronized void add(long latencyNanos, boolean ok) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        synchronized void drop() {
+            dropped++;
+        }
+
+        synchronized long[] latencies() {
+            return Arrays.copyOf(latencies, count);
+        }
+    }
+}
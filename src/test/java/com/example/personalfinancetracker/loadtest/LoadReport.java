@@ -0,0 +1,79 @@
+package com.example.personalfinancetracker.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of the measured part of a load run, per request type and overall.
+ */
+public record LoadReport(String profile, WorkloadProfile.ArrivalModel arrival, double seconds,
+                         Map<Operation, Stats> operations, Stats total) {
+
+    public record Stats(int requests, int errors, double p50Millis, double p95Millis, double p99Millis,
+                        double maxMillis) {
+
+        /**
+         * Latencies are sorted in place. Requests dropped before being sent count as errors but have no latency.
+         */
+        public static Stats of(long[] latencyNanos, int dropped, int errors) {
+            Arrays.sort(latencyNanos);
+            return new Stats(latencyNanos.length + dropped, errors + dropped, percentile(latencyNanos, 50),
+                    percentile(latencyNanos, 95), percentile(latencyNanos, 99), percentile(latencyNanos, 100));
+        }
+
+        public double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+
+        private static double percentile(long[] sorted, int percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d requests, p50 %.1f ms, p95 %.1f ms, p99 %.1f ms, max %.1f ms, %d errors (%.2f%%)",
+                    requests, p50Millis, p95Millis, p99Millis, maxMillis, errors, errorRate() * 100);
+        }
+    }
+
+    public double requestsPerSecond() {
+        return seconds == 0 ? 0 : total.requests() / seconds;
+    }
+
+    /**
+     * The objectives of {@code slo} the run missed, empty if it met all of them.
+     */
+    public List<String> violations(WorkloadProfile.Slo slo) {
+        List<String> violations = new ArrayList<>();
+        if (slo.getP95() != null && total.p95Millis() > millis(slo.getP95())) {
+            violations.add(String.format("p95 %.1f ms exceeds %s", total.p95Millis(), slo.getP95()));
+        }
+        if (slo.getP99() != null && total.p99Millis() > millis(slo.getP99())) {
+            violations.add(String.format("p99 %.1f ms exceeds %s", total.p99Millis(), slo.getP99()));
+        }
+        if (total.errorRate() > slo.getMaxErrorRate()) {
+            violations.add(String.format("error rate %.4f exceeds %.4f", total.errorRate(), slo.getMaxErrorRate()));
+        }
+        return violations;
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1e6;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder(String.format("%s (%s): %.0f req/s over %.1f s, %s",
+                profile, arrival.name().toLowerCase(), requestsPerSecond(), seconds, total));
+        operations.forEach((operation, stats) ->
+                report.append(String.format("%n  %-7s %s", operation.name().toLowerCase(), stats)));
+        return report.toString();
+    }
+}
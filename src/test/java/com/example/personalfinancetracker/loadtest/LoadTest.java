@@ -0,0 +1,63 @@
+package com.example.personalfinancetracker.loadtest;
+
+import com.example.personalfinancetracker.PersonalFinanceTrackerApplication;
+import com.example.personalfinancetracker.util.SyntheticLedgerGenerator;
+import com.example.personalfinancetracker.util.SyntheticLedgerLoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Boots the application on a random port, seeds it with a year of {@link SyntheticLedgerGenerator} ledger up to
+ * today through {@link SyntheticLedgerLoader} and replays a workload profile from
+ * {@code src/test/resources/loadtest} against it, failing (and so failing the Maven build) when the profile's
+ * objectives are missed. Opt-in:
+ * {@code mvn test -Dtest=LoadTest -Dfinance.loadtest.profile=mixed-closed}.
+ */
+@EnabledIfSystemProperty(named = "finance.loadtest.profile", matches = ".+")
+class LoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTest.class);
+
+    @Test
+    void shouldMeetWorkloadObjectives() throws Exception {
+        WorkloadProfile profile = WorkloadProfile.load(System.getProperty("finance.loadtest.profile"));
+
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:finance-load-" + profile.getName(),
+                "logging.level.com.example.personalfinancetracker=WARN"));
+        profile.getApplication().forEach((key, value) -> properties.add(key + "=" + value));
+
+        LoadReport report;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PersonalFinanceTrackerApplication.class)
+                .properties(properties.toArray(String[]::new))
+                .run()) {
+            seed(context, profile);
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+            report = new LoadGenerator(client, "http://localhost:" + port + "/api/v1/transactions", profile).run();
+        }
+
+        log.info("{}", report);
+        List<String> violations = report.violations(profile.getSlo());
+        assertTrue(violations.isEmpty(), () -> profile.getName() + " missed its objectives: " + violations);
+    }
+
+    private void seed(ConfigurableApplicationContext context, WorkloadProfile profile) {
+        SyntheticLedgerGenerator generator = new SyntheticLedgerGenerator(profile.getSeed(), profile.getAccounts(),
+                LocalDate.now().minusYears(1).plusDays(1), 1);
+        SyntheticLedgerLoader.load(context, generator, profile.getAccounts() * profile.getTransactionsPerAccount());
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.personalfinancetracker.loadtest;
+
+/**
+ * The request types a workload mixes.
+ */
+public enum Operation {
+    /** {@code GET /api/v1/transactions} for one account, optionally narrowed to a category. */
+    SEARCH,
+    /** {@code GET /api/v1/transactions/balance/{accountName}} at a date in the past year. */
+    BALANCE,
+    /** {@code POST /api/v1/transactions} of a single transaction. */
+    WRITE
+}
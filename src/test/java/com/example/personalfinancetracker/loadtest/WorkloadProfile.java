@@ -0,0 +1,131 @@
+package com.example.personalfinancetracker.loadtest;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * A load-test workload read from {@code loadtest/<name>.yml} under the {@code workload} prefix: the seeded ledger,
+ * the request mix, how requests arrive and the latency objectives the run has to meet.
+ */
+@Data
+public class WorkloadProfile {
+
+    public enum ArrivalModel {
+        /** A fixed number of users, each sending its next request as soon as the previous one returns. */
+        CLOSED,
+        /** Requests start at a fixed rate regardless of how fast earlier ones complete. */
+        OPEN
+    }
+
+    private String name;
+
+    /**
+     * Seeds both the ledger and the request sequence, so two runs of a profile send the same requests.
+     */
+    private long seed = 42;
+
+    private int accounts = 50;
+
+    /**
+     * Average rows per account in the seeded ledger, which gives low-numbered accounts far more than high ones.
+     */
+    private int transactionsPerAccount = 200;
+
+    private ArrivalModel arrival = ArrivalModel.CLOSED;
+
+    /**
+     * Users in the closed model; in the open model the most requests in flight before new ones are dropped.
+     */
+    private int concurrency = 32;
+
+    /**
+     * Requests started per second in the open model.
+     */
+    private double ratePerSecond = 200;
+
+    /**
+     * Load sent before measuring starts, so JIT compilation and cache fills are not counted.
+     */
+    private Duration warmup = Duration.ofSeconds(5);
+
+    private Duration duration = Duration.ofSeconds(30);
+
+    private Mix mix = new Mix();
+
+    private Slo slo = new Slo();
+
+    /**
+     * Extra application properties for the run, for example {@code spring.threads.virtual.enabled}.
+     */
+    private Map<String, String> application = new LinkedHashMap<>();
+
+    /**
+     * Relative weights of each request type; they need not add up to 100.
+     */
+    @Data
+    public static class Mix {
+        private int search = 70;
+        private int balance = 20;
+        private int write = 10;
+    }
+
+    /**
+     * Objectives for the measured requests as a whole; unset latencies are not checked.
+     */
+    @Data
+    public static class Slo {
+        private Duration p95;
+        private Duration p99;
+        private double maxErrorRate = 0.0;
+    }
+
+    public static WorkloadProfile load(String name) {
+        ClassPathResource resource = new ClassPathResource("loadtest/" + name + ".yml");
+        if (!resource.exists()) {
+            throw new IllegalArgumentException("No workload profile at " + resource.getPath());
+        }
+        try {
+            List<PropertySource<?>> sources = new YamlPropertySourceLoader().load(name, resource);
+            WorkloadProfile profile = new Binder(ConfigurationPropertySources.from(sources))
+                    .bind("workload", WorkloadProfile.class)
+                    .orElseGet(WorkloadProfile::new);
+            profile.setName(name);
+            profile.validate();
+            return profile;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Operation pick(SplittableRandom random) {
+        int roll = random.nextInt(mix.search + mix.balance + mix.write);
+        if (roll < mix.search) {
+            return Operation.SEARCH;
+        }
+        return roll < mix.search + mix.balance ? Operation.BALANCE : Operation.WRITE;
+    }
+
+    private void validate() {
+        if (mix.search < 0 || mix.balance < 0 || mix.write < 0 || mix.search + mix.balance + mix.write == 0) {
+            throw new IllegalArgumentException(name + ": mix weights must be non-negative and not all zero");
+        }
+        if (accounts <= 0 || concurrency <= 0) {
+            throw new IllegalArgumentException(name + ": accounts and concurrency must be positive");
+        }
+        if (arrival == ArrivalModel.OPEN && ratePerSecond <= 0) {
+            throw new IllegalArgumentException(name + ": the open model needs a positive rate-per-second");
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.personalfinancetracker.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkloadProfileTest {
+
+    @Test
+    void shouldBindBundledProfile() {
+        WorkloadProfile profile = WorkloadProfile.load("write-heavy-virtual");
+
+        assertEquals("write-heavy-virtual", profile.getName());
+        assertEquals(WorkloadProfile.ArrivalModel.OPEN, profile.getArrival());
+        assertEquals(200, profile.getRatePerSecond());
+        assertEquals(50, profile.getMix().getWrite());
+        assertEquals(Duration.ofMillis(500), profile.getSlo().getP95());
+        assertEquals("true", profile.getApplication().get("spring.threads.virtual.enabled"));
+    }
+
+    @Test
+    void shouldRejectUnknownProfile() {
+        assertThrows(IllegalArgumentException.class, () -> WorkloadProfile.load("no-such-profile"));
+    }
+
+    @Test
+    void shouldPickTheSameOperationsForTheSameSeed() {
+        WorkloadProfile profile = WorkloadProfile.load("mixed-closed");
+
+        assertEquals(picks(profile, 42), picks(profile, 42));
+        long searches = picks(profile, 42).stream().filter(operation -> operation == Operation.SEARCH).count();
+        assertTrue(searches > 6_500 && searches < 7_500, "search share " + searches);
+    }
+
+    @Test
+    void shouldReportMissedObjectives() {
+        WorkloadProfile.Slo slo = new WorkloadProfile.Slo();
+        slo.setP95(Duration.ofMillis(100));
+        slo.setMaxErrorRate(0.01);
+
+        long[] fast = IntStream.range(0, 100).mapToLong(i -> Duration.ofMillis(10).toNanos()).toArray();
+        long[] slow = IntStream.range(0, 100).mapToLong(i -> Duration.ofMillis(i < 90 ? 10 : 200).toNanos()).toArray();
+
+        assertTrue(report(LoadReport.Stats.of(fast, 0, 0)).violations(slo).isEmpty());
+        assertEquals(1, report(LoadReport.Stats.of(slow, 0, 0)).violations(slo).size());
+        assertEquals(1, report(LoadReport.Stats.of(fast.clone(), 5, 0)).violations(slo).size());
+    }
+
+    private static List<Operation> picks(WorkloadProfile profile, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        return IntStream.range(0, 10_000).mapToObj(i -> profile.pick(random)).toList();
+    }
+
+    private static LoadReport report(LoadReport.Stats total) {
+        return new LoadReport("test", WorkloadProfile.ArrivalModel.CLOSED, 1, Map.of(), total);
+    }
+}
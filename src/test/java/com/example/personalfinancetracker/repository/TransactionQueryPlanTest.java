@@ -0,0 +1,134 @@
+package com.example.personalfinancetracker.repository;
+
+import com.example.personalfinancetracker.domain.Transaction;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.example.personalfinancetracker.util.TransactionTestUtils.createAndSaveTransaction;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs H2's {@code EXPLAIN} on the SQL Hibernate generates for the date-bounded queries and checks that each one
+ * is answered from the intended composite index, with the {@code created_at} range as part of the index condition.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:finance-plan-testdb",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.example.personalfinancetracker.repository.TransactionQueryPlanTest$CapturingStatementInspector"
+})
+class TransactionQueryPlanTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 3, 31);
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private CustomTransactionRepository customTransactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository.deleteAll();
+        LocalDateTime start = FROM.atStartOfDay();
+        for (int i = 0; i < 20; i++) {
+            createAndSaveTransaction(transactionRepository, i % 2 == 0 ? "Aylin" : "Nazli", BigDecimal.TEN,
+                    i % 3 == 0 ? "Food" : "Income", "Row " + i, start.plusDays(i));
+        }
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void balanceQueryShouldSeekAccountAndDateIndex() {
+        transactionRepository.calculateBalanceForAccount("Aylin", TO.plusDays(1).atStartOfDay());
+
+        assertThat(explainLastQuery(), allOf(
+                containsString("IDX_TRANSACTION_ACCOUNT_CREATED: ACCOUNT_ID = ?1"),
+                not(containsString("CAST("))));
+    }
+
+    @Test
+    void accountSearchShouldSeekAccountAndDateIndex() {
+        customTransactionRepository.findTransactionsByCriteria("Aylin", null, null, FROM, TO, null, null,
+                PageRequest.of(0, 10, Sort.by("createdAt")));
+
+        assertThat(explainLastQuery(), allOf(
+                containsString("IDX_TRANSACTION_ACCOUNT_CREATED"),
+                containsString("CREATED_AT >= ?2"),
+                not(containsString("CAST("))));
+    }
+
+    @Test
+    void accountCategorySearchShouldSeekAccountCategoryAndDateIndex() {
+        customTransactionRepository.calculateTotalsByCriteria("Aylin", null, null, FROM, TO, "Food", null);
+
+        assertThat(explainLastQuery(), allOf(
+                containsString("IDX_TRANSACTION_ACCOUNT_CATEGORY_CREATED"),
+                containsString("CATEGORY_ID = ?"),
+                containsString("CREATED_AT >= ?")));
+    }
+
+    @Test
+    void categorySearchShouldSeekCategoryAndDateIndex() {
+        customTransactionRepository.calculateTotalsByCriteria(null, null, null, FROM, TO, "Food", null);
+
+        assertThat(explainLastQuery(), allOf(
+                containsString("IDX_TRANSACTION_CATEGORY_CREATED"),
+                containsString("CREATED_AT >= ?")));
+    }
+
+    @Test
+    void estimatedCountShouldBeExactBelowTheLimit() {
+        assertEquals(10L, customTransactionRepository.estimateCountByCriteria(
+                "Aylin", null, null, null, null, null, null, 20));
+    }
+
+    @Test
+    void estimatedCountShouldExtrapolateFromCreationTimesAtTheLimit() {
+        long estimate = customTransactionRepository.estimateCountByCriteria(
+                "Aylin", null, null, null, null, null, null, 5);
+
+        assertEquals(11L, estimate);
+        assertThat(explainLastQuery(), containsString("IDX_TRANSACTION_ACCOUNT_CREATED"));
+    }
+
+    private String explainLastQuery() {
+        List<String> statements = CapturingStatementInspector.STATEMENTS;
+        String sql = statements.get(statements.size() - 1);
+        return jdbcTemplate.query(connection -> connection.prepareStatement("EXPLAIN " + sql),
+                resultSet -> {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                });
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.startsWith("select") && sql.contains(" from transaction ")) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -1,27 +1,34 @@
 package com.example.personalfinancetracker.service;
 
+import com.example.personalfinancetracker.cache.AccountNameFilter;
+import com.example.personalfinancetracker.cache.BalanceCacheEvictor;
+import com.example.personalfinancetracker.cache.ColumnarAnalyticsEngine;
+import com.example.personalfinancetracker.domain.TotalsMode;
 import com.example.personalfinancetracker.domain.Transaction;
 import com.example.personalfinancetracker.dto.TransactionRequestDTO;
 import com.example.personalfinancetracker.dto.TransactionSearchCriteriaDTO;
 import com.example.personalfinancetracker.exception.TransactionNotFoundException;
 import com.example.personalfinancetracker.mapper.TransactionMapper;
+import com.example.personalfinancetracker.repository.BalanceCheckpointRepository;
 import com.example.personalfinancetracker.repository.CustomTransactionRepository;
 import com.example.personalfinancetracker.repository.TransactionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +43,21 @@ public class TransactionErrorServiceTest {
     @Mock
     private TransactionMapper transactionMapper;
 
+    @Mock
+    private BalanceCheckpointRepository balanceCheckpointRepository;
+
+    @Mock
+    private BalanceCacheEvictor balanceCacheEvictor;
+
+    @Mock
+    private AccountNameFilter accountNameFilter;
+
+    @Mock
+    private ColumnarAnalyticsEngine analyticsEngine;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -77,7 +99,7 @@ public class TransactionErrorServiceTest {
 
     @Test
     void shouldThrowExceptionWhenDeletingNonExistentTransaction() {
-        when(transactionRepository.existsById(999L)).thenReturn(false);
+        when(transactionRepository.findById(999L)).thenReturn(Optional.empty());
 
         assertThrows(TransactionNotFoundException.class, () ->
                 transactionService.deleteTransaction(999L)
@@ -86,12 +108,22 @@ public class TransactionErrorServiceTest {
 
     @Test
     void shouldThrowExceptionWhenCalculatingBalanceForNonExistentAccount() {
-        when(transactionRepository.findByAccountName("Alien"))
-                .thenReturn(Collections.emptyList());
+        when(accountNameFilter.mightContain("Alien")).thenReturn(true);
+        when(transactionRepository.existsByAccountName("Alien")).thenReturn(false);
+
+        assertThrows(TransactionNotFoundException.class, () ->
+                transactionService.calculateBalance("Alien", LocalDate.now())
+        );
+    }
+
+    @Test
+    void shouldRejectAccountRuledOutByFilterWithoutQuerying() {
+        when(accountNameFilter.mightContain("Alien")).thenReturn(false);
 
         assertThrows(TransactionNotFoundException.class, () ->
                 transactionService.calculateBalance("Alien", LocalDate.now())
         );
+        verifyNoInteractions(transactionRepository);
     }
 
     @Test
@@ -115,7 +147,7 @@ public class TransactionErrorServiceTest {
         criteria.setMaxAmount(new BigDecimal("50.00"));
 
         assertThrows(IllegalArgumentException.class, () ->
-                transactionService.searchTransactions(criteria, 0, 10, "createdAt", "asc")
+                transactionService.searchTransactions(criteria, 0, 10, "createdAt", "asc", null, TotalsMode.EXACT)
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.example.personalfinancetracker.service;
+
+import com.example.personalfinancetracker.config.FinanceIngestProperties;
+import com.example.personalfinancetracker.dto.ImportResultDTO;
+import com.example.personalfinancetracker.dto.TransactionRequestDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionImportServiceTest {
+
+    @Mock
+    private TransactionService transactionService;
+
+    private final FinanceIngestProperties ingestProperties = new FinanceIngestProperties();
+
+    private TransactionImportService transactionImportService;
+
+    private final List<Integer> committedChunkSizes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ingestProperties.setChunkSize(2);
+        transactionImportService = new TransactionImportService(transactionService, new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), ingestProperties);
+    }
+
+    @Test
+    void shouldCommitCsvRowsInFixedSizeChunks() throws Exception {
+        recordCommittedChunks();
+        String csv = """
+                accountName,amount,category,description,bankReference
+                Aylin,100.00,Income,Salary,REF-1
+                Aylin,-20.50,Food,"Lunch, with friends",REF-2
+                Nazli,30,Income,Gift,REF-3
+                Nazli,-5,Food,Coffee,REF-4
+                Aylin,7,Income,Refund,REF-5
+                """;
+
+        ImportResultDTO result = transactionImportService.importCsv(stream(csv));
+
+        assertEquals(5, result.getImported());
+        assertEquals(0, result.getRejected());
+        assertEquals(List.of(2, 2, 1), committedChunkSizes);
+    }
+
+    @Test
+    void shouldReportInvalidCsvRowsAndKeepImportingTheRest() throws Exception {
+        recordCommittedChunks();
+        String csv = """
+                accountName,amount,category,description
+                Aylin,100.00,Income,Salary
+                Aylin,,Food,Missing amount
+                Aylin,abc,Food,Bad amount
+                ,10,Food,Missing account
+                Nazli,30,Income,Gift
+                """;
+
+        ImportResultDTO result = transactionImportService.importCsv(stream(csv));
+
+        assertEquals(2, result.getImported());
+        assertEquals(3, result.getRejected());
+        assertEquals(List.of(2L, 3L, 4L), result.getErrors().stream().map(error -> error.getRow()).toList());
+        assertEquals("amount: Amount is required", result.getErrors().get(0).getMessage());
+        assertEquals("accountName: Account name is required", result.getErrors().get(2).getMessage());
+        assertEquals(List.of(2), committedChunkSizes);
+    }
+
+    @Test
+    void shouldImportNdjsonLineByLine() throws Exception {
+        recordCommittedChunks();
+        String ndjson = """
+                {"accountName": "Aylin", "amount": 100, "category": "Income", "description": "Salary"}
+
+                {"accountName": "Aylin", "amount": 1
+                {"accountName": "Nazli", "amount": 30, "category": "Income"}
+                """;
+
+        ImportResultDTO result = transactionImportService.importNdjson(stream(ndjson));
+
+        assertEquals(2, result.getImported());
+        assertEquals(1, result.getRejected());
+        assertEquals(3L, result.getErrors().get(0).getRow());
+        assertEquals(List.of(2), committedChunkSizes);
+    }
+
+    @Test
+    void shouldCapReportedErrorsButCountAllRejectedRows() throws Exception {
+        ingestProperties.setMaxReportedErrors(1);
+        String ndjson = """
+                {"accountName": "Aylin"}
+                {"accountName": "Aylin"}
+                {"accountName": "Aylin"}
+                """;
+
+        ImportResultDTO result = transactionImportService.importNdjson(stream(ndjson));
+
+        assertEquals(0, result.getImported());
+        assertEquals(3, result.getRejected());
+        assertEquals(1, result.getErrors().size());
+        verify(transactionService, never()).addTransactions(anyList());
+    }
+
+    private void recordCommittedChunks() {
+        doAnswer(invocation -> {
+            List<TransactionRequestDTO> chunk = invocation.getArgument(0);
+            committedChunkSizes.add(chunk.size());
+            return List.of();
+        }).when(transactionService).addTransactions(anyList());
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
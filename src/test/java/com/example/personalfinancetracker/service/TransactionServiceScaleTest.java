@@ -0,0 +1,388 @@
+package com.example.personalfinancetracker.service;
+
+import com.example.personalfinancetracker.cache.BalanceCacheEvictor;
+import com.example.personalfinancetracker.domain.BalanceSeriesStep;
+import com.example.personalfinancetracker.domain.RollupPeriod;
+import com.example.personalfinancetracker.domain.SummaryGroupBy;
+import com.example.personalfinancetracker.domain.TotalsMode;
+import com.example.personalfinancetracker.dto.BalanceQueryDTO;
+import com.example.personalfinancetracker.dto.PagedTransactionResponseDTO;
+import com.example.personalfinancetracker.dto.TransactionRequestDTO;
+import com.example.personalfinancetracker.dto.TransactionResponseDTO;
+import com.example.personalfinancetracker.dto.TransactionSearchCriteriaDTO;
+import com.example.personalfinancetracker.util.SyntheticLedgerGenerator;
+import com.example.personalfinancetracker.util.SyntheticLedgerLoader;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs every public {@link TransactionService} method against a synthetic ledger of {@code finance.scale.rows}
+ * transactions (default 1,000,000) over 2,000 accounts, 30 categories and five years, and checks that each call
+ * stays within a budget of SQL statements and wall-clock time. Statements are counted as they are executed on
+ * connections of the datasource, so JPA and JDBC template work alike is included. Statement budgets catch per-row
+ * or per-page query loops and hold for every run; time budgets catch scans that grow with the ledger and hold for
+ * the median of {@value #RUNS} runs after {@value #WARMUP_RUNS} warm-up runs. Calls go to the largest account
+ * unless noted, the balance cache is cleared before each run and the query cache is off, so repeated calls reach
+ * the database.
+ * Opt-in, as loading takes a few minutes:
+ * {@code mvn test -Dtest=TransactionServiceScaleTest -Dfinance.scale=true}.
+ */
+@EnabledIfSystemProperty(named = "finance.scale", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./target/scale-h2/ledger;CACHE_SIZE=524288",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "logging.level.com.example.personalfinancetracker=WARN"
+})
+class TransactionServiceScaleTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionServiceScaleTest.class);
+
+    private static final long SEED = 20250224L;
+    private static final int ACCOUNTS = 2_000;
+    private static final LocalDate LEDGER_START = LocalDate.of(2020, 1, 1);
+    private static final int LEDGER_YEARS = 5;
+
+    private static final String LARGEST_ACCOUNT = SyntheticLedgerGenerator.accountName(0);
+    private static final LocalDate WINDOW_FROM = LocalDate.of(2023, 4, 1);
+    private static final LocalDate WINDOW_TO = LocalDate.of(2023, 6, 30);
+
+    private static final Duration POINT_READ = Duration.ofMillis(250);
+    private static final Duration RANGE_READ = Duration.ofSeconds(1);
+    private static final Duration SINGLE_WRITE = Duration.ofMillis(250);
+    private static final Duration BATCH_WRITE = Duration.ofSeconds(3);
+
+    private static final int WARMUP_RUNS = 2;
+    private static final int RUNS = 5;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @BeforeAll
+    void loadLedger() {
+        int rows = Integer.getInteger("finance.scale.rows", 1_000_000);
+        long started = System.nanoTime();
+        SyntheticLedgerLoader.load(context,
+                new SyntheticLedgerGenerator(SEED, ACCOUNTS, LEDGER_START, LEDGER_YEARS), rows);
+        log.info("Loaded {} rows in {} s", rows, (System.nanoTime() - started) / 1_000_000_000);
+    }
+
+    @Test
+    void calculateBalanceShouldReadFromCheckpoints() {
+        BigDecimal balance = withinBudget("calculateBalance", 4, POINT_READ,
+                () -> transactionService.calculateBalance(LARGEST_ACCOUNT, WINDOW_TO));
+
+        assertNotNull(balance);
+    }
+
+    @Test
+    void calculateBalancesShouldIssueOneQuery() {
+        List<BalanceQueryDTO> queries = new ArrayList<>();
+        for (int account = 0; account < ACCOUNTS; account += 40) {
+            for (LocalDate date : List.of(WINDOW_FROM, WINDOW_TO)) {
+                BalanceQueryDTO query = new BalanceQueryDTO();
+                query.setAccountName(SyntheticLedgerGenerator.accountName(account));
+                query.setDate(date);
+                queries.add(query);
+            }
+        }
+
+        assertEquals(queries.size(), withinBudget("calculateBalances", 1, RANGE_READ,
+                () -> transactionService.calculateBalances(queries)).size());
+    }
+
+    @Test
+    void calculateBalanceSeriesShouldScanTheRangeOnce() {
+        assertEquals(12, withinBudget("calculateBalanceSeries", 5, RANGE_READ,
+                () -> transactionService.calculateBalanceSeries(LARGEST_ACCOUNT, LocalDate.of(2023, 1, 31),
+                        LocalDate.of(2023, 12, 31), BalanceSeriesStep.MONTH)).size());
+    }
+
+    @Test
+    void getTransactionsByAccountShouldReadOnePage() {
+        assertEquals(50, withinBudget("getTransactionsByAccount", 1, POINT_READ,
+                () -> transactionService.getTransactionsByAccount(LARGEST_ACCOUNT, null, null, 20, 50))
+                .getNumberOfElements());
+    }
+
+    @Test
+    void searchWithExactTotalsShouldUseOneAggregateQuery() {
+        PagedTransactionResponseDTO response = withinBudget("searchTransactions exact", 2, RANGE_READ,
+                () -> transactionService.searchTransactions(accountWindow(), 0, 50, "createdAt", "desc", null,
+                        TotalsMode.EXACT));
+
+        assertEquals(50, response.getTransactions().size());
+        assertTrue(response.getTotalRecords() > 50);
+    }
+
+    @Test
+    void searchWithoutTotalsShouldReadOnePage() {
+        TransactionSearchCriteriaDTO criteria = new TransactionSearchCriteriaDTO();
+        criteria.setAccountName(LARGEST_ACCOUNT);
+        criteria.setCategory("Groceries");
+
+        PagedTransactionResponseDTO first = withinBudget("searchTransactions none", 1, POINT_READ,
+                () -> transactionService.searchTransactions(criteria, 0, 50, "createdAt", "desc", null, TotalsMode.NONE));
+        PagedTransactionResponseDTO next = withinBudget("searchTransactions cursor", 1, POINT_READ,
+                () -> transactionService.searchTransactions(criteria, 0, 50, "createdAt", "desc",
+                        first.getNextCursor(), TotalsMode.NONE));
+
+        assertNull(first.getTotalRecords());
+        assertEquals(50, next.getTransactions().size());
+    }
+
+    @Test
+    void searchWithEstimatedTotalsShouldReadThreeRows() {
+        TransactionSearchCriteriaDTO criteria = new TransactionSearchCriteriaDTO();
+        criteria.setAccountName(LARGEST_ACCOUNT);
+
+        PagedTransactionResponseDTO response = withinBudget("searchTransactions estimated", 4, POINT_READ,
+                () -> transactionService.searchTransactions(criteria, 0, 50, "createdAt", "desc", null,
+                        TotalsMode.ESTIMATED));
+
+        assertTrue(response.getTotalsEstimated());
+        assertTrue(response.getTotalRecords() > 1_000);
+    }
+
+    @Test
+    void searchByDescriptionShouldUseTheTrigramIndex() {
+        TransactionSearchCriteriaDTO criteria = accountWindow();
+        criteria.setDescription("merchant-42");
+
+        withinBudget("searchTransactions description", 2, RANGE_READ,
+                () -> transactionService.searchTransactions(criteria, 0, 50, "createdAt", "desc", null,
+                        TotalsMode.EXACT));
+    }
+
+    @Test
+    void summarizeTransactionsShouldReadRollups() {
+        assertFalse(withinBudget("summarizeTransactions account year", 1, POINT_READ,
+                () -> transactionService.summarizeTransactions(SummaryGroupBy.CATEGORY, RollupPeriod.YEAR,
+                        LEDGER_START, LEDGER_START.plusYears(LEDGER_YEARS), LARGEST_ACCOUNT)).isEmpty());
+        assertFalse(withinBudget("summarizeTransactions all accounts month", 1, RANGE_READ,
+                () -> transactionService.summarizeTransactions(SummaryGroupBy.ACCOUNT, RollupPeriod.MONTH,
+                        WINDOW_FROM, WINDOW_FROM.plusMonths(1).minusDays(1), null)).isEmpty());
+    }
+
+    @Test
+    void singleWritesShouldNotScaleWithTheLedger() {
+        Deque<TransactionResponseDTO> added = new ArrayDeque<>();
+        withinBudget("addTransaction", 15, SINGLE_WRITE, () -> {
+            added.push(transactionService.addTransaction(request(LARGEST_ACCOUNT, "Groceries", "-42.10")));
+            return null;
+        });
+        AtomicInteger updates = new AtomicInteger();
+        withinBudget("updateTransaction", 20, SINGLE_WRITE,
+                () -> transactionService.updateTransaction(added.peek().getId(), request(LARGEST_ACCOUNT,
+                        updates.incrementAndGet() % 2 == 0 ? "Groceries" : "Restaurants", "-12.00")));
+        withinBudget("deleteTransaction", 15, SINGLE_WRITE, () -> {
+            transactionService.deleteTransaction(added.pop().getId());
+            return null;
+        });
+    }
+
+    @Test
+    void updatingAnOldTransactionShouldShiftCheckpointsInOneStatement() {
+        TransactionSearchCriteriaDTO criteria = new TransactionSearchCriteriaDTO();
+        criteria.setAccountName(LARGEST_ACCOUNT);
+        TransactionResponseDTO oldest = transactionService.searchTransactions(criteria, 0, 1, "createdAt", "asc", null,
+                TotalsMode.NONE).getTransactions().get(0);
+        AtomicInteger updates = new AtomicInteger();
+
+        withinBudget("updateTransaction oldest", 20, SINGLE_WRITE, () -> {
+            transactionService.updateTransaction(oldest.getId(), request(LARGEST_ACCOUNT, oldest.getCategory(),
+                    oldest.getAmount().add(BigDecimal.valueOf(updates.incrementAndGet())).toPlainString()));
+            long shifts = StatementLog.executed().stream()
+                    .filter(sql -> sql.toLowerCase(Locale.ROOT).startsWith("update balance_checkpoint"))
+                    .count();
+            assertEquals(1, shifts, () -> "checkpoint shift statements: " + StatementLog.executed());
+            return null;
+        });
+    }
+
+    @Test
+    void batchWritesShouldBeBatched() {
+        List<TransactionRequestDTO> requests = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            requests.add(request(LARGEST_ACCOUNT, SyntheticLedgerGenerator.CATEGORIES.get(i % 3), "-1.00"));
+        }
+
+        assertEquals(200, withinBudget("addTransactions", 40, BATCH_WRITE,
+                () -> transactionService.addTransactions(requests)).size());
+    }
+
+    /**
+     * Runs {@code call} {@value #WARMUP_RUNS} times unmeasured and {@value #RUNS} times measured, each time with an
+     * empty balance cache. Every measured run must stay within {@code maxStatements}; their median time must stay
+     * within {@code maxTime}. Returns the result of the last run.
+     */
+    private <T> T withinBudget(String operation, int maxStatements, Duration maxTime, Supplier<T> call) {
+        for (int run = 0; run < WARMUP_RUNS; run++) {
+            clearBalanceCache();
+            StatementLog.clear();
+            call.get();
+        }
+        T result = null;
+        List<Duration> times = new ArrayList<>();
+        for (int run = 0; run < RUNS; run++) {
+            clearBalanceCache();
+            StatementLog.clear();
+            long started = System.nanoTime();
+            result = call.get();
+            times.add(Duration.ofNanos(System.nanoTime() - started));
+            int statements = StatementLog.executed().size();
+            assertTrue(statements <= maxStatements,
+                    () -> operation + " issued " + statements + " statements, budget " + maxStatements
+                            + ": " + StatementLog.executed());
+        }
+        Collections.sort(times);
+        Duration median = times.get(RUNS / 2);
+
+        log.info("{}: median {} ms over {} runs", operation, median.toMillis(), RUNS);
+        assertTrue(median.compareTo(maxTime) <= 0,
+                () -> operation + " took " + median.toMillis() + " ms (median), budget " + maxTime.toMillis() + " ms");
+        return result;
+    }
+
+    private void clearBalanceCache() {
+        Objects.requireNonNull(cacheManager.getCache(BalanceCacheEvictor.BALANCE_CACHE)).clear();
+    }
+
+    private static TransactionSearchCriteriaDTO accountWindow() {
+        TransactionSearchCriteriaDTO criteria = new TransactionSearchCriteriaDTO();
+        criteria.setAccountName(LARGEST_ACCOUNT);
+        criteria.setFromDate(WINDOW_FROM);
+        criteria.setToDate(WINDOW_TO);
+        return criteria;
+    }
+
+    private static TransactionRequestDTO request(String accountName, String category, String amount) {
+        TransactionRequestDTO request = new TransactionRequestDTO();
+        request.setAccountName(accountName);
+        request.setCategory(category);
+        request.setAmount(new BigDecimal(amount));
+        request.setDescription("Scale test");
+        return request;
+    }
+
+    /**
+     * Wraps the datasource so that every statement executed on its connections is logged.
+     */
+    @TestConfiguration
+    static class StatementLogConfig {
+
+        @Bean
+        static BeanPostProcessor statementLoggingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof StatementLog)
+                            ? new StatementLog(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * Records the SQL of every {@code execute*} call, once per batch for batched statements.
+     */
+    static class StatementLog extends DelegatingDataSource {
+
+        private static final List<String> EXECUTED = Collections.synchronizedList(new ArrayList<>());
+
+        StatementLog(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        static List<String> executed() {
+            synchronized (EXECUTED) {
+                return List.copyOf(EXECUTED);
+            }
+        }
+
+        static void clear() {
+            EXECUTED.clear();
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return logging(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return logging(super.getConnection(username, password));
+        }
+
+        private static Connection logging(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (result instanceof Statement statement) {
+                            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                            return logging(method.getReturnType(), statement, sql);
+                        }
+                        return result;
+                    });
+        }
+
+        private static Object logging(Class<?> type, Statement statement, String preparedSql) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                if (method.getName().startsWith("execute")) {
+                    EXECUTED.add(String.valueOf(
+                            args != null && args.length > 0 && args[0] instanceof String sql ? sql : preparedSql));
+                }
+                return invoke(statement, method, args);
+            });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -1,18 +1,44 @@
 package com.example.personalfinancetracker.service;
 
+import com.example.personalfinancetracker.cache.AccountNameFilter;
+import com.example.personalfinancetracker.cache.BalanceCacheEvictor;
+import com.example.personalfinancetracker.cache.ColumnarAnalyticsEngine;
+import com.example.personalfinancetracker.config.FinanceIngestProperties;
+import com.example.personalfinancetracker.config.FinanceMoneyProperties;
+import com.example.personalfinancetracker.config.FinanceSearchProperties;
+import com.example.personalfinancetracker.domain.BalanceCheckpoint;
+import com.example.personalfinancetracker.domain.BalanceSeriesStep;
+import com.example.personalfinancetracker.domain.RollupChange;
+import com.example.personalfinancetracker.domain.RollupPeriod;
+import com.example.personalfinancetracker.domain.RollupSummary;
+import com.example.personalfinancetracker.domain.SummaryGroupBy;
+import com.example.personalfinancetracker.domain.TotalsMode;
 import com.example.personalfinancetracker.domain.Transaction;
+import com.example.personalfinancetracker.domain.TransactionTotals;
+import com.example.personalfinancetracker.dto.AccountBalanceDTO;
+import com.example.personalfinancetracker.dto.BalancePointDTO;
+import com.example.personalfinancetracker.dto.BalanceQueryDTO;
+import com.example.personalfinancetracker.dto.CategoryTotalDTO;
 import com.example.personalfinancetracker.dto.TransactionRequestDTO;
 import com.example.personalfinancetracker.dto.TransactionResponseDTO;
 import com.example.personalfinancetracker.dto.TransactionSearchCriteriaDTO;
+import com.example.personalfinancetracker.dto.TransactionSummaryDTO;
 import com.example.personalfinancetracker.mapper.TransactionMapper;
+import com.example.personalfinancetracker.repository.BalanceCheckpointRepository;
 import com.example.personalfinancetracker.repository.CustomTransactionRepository;
 import com.example.personalfinancetracker.repository.TransactionRepository;
+import com.example.personalfinancetracker.repository.TransactionRollupRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.*;
 
 import java.math.BigDecimal;
@@ -20,11 +46,17 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +71,39 @@ class TransactionServiceTest {
     @Mock
     private TransactionMapper transactionMapper;
 
+    @Mock
+    private BalanceCheckpointRepository balanceCheckpointRepository;
+
+    @Mock
+    private TransactionRollupRepository transactionRollupRepository;
+
+    @Mock
+    private BalanceCacheEvictor balanceCacheEvictor;
+
+    @Spy
+    private ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(BalanceCacheEvictor.BALANCE_CACHE);
+
+    @Mock
+    private AccountNameFilter accountNameFilter;
+
+    @Mock
+    private ColumnarAnalyticsEngine analyticsEngine;
+
+    @Spy
+    private FinanceSearchProperties searchProperties = new FinanceSearchProperties();
+
+    @Spy
+    private FinanceIngestProperties ingestProperties = new FinanceIngestProperties();
+
+    @Spy
+    private FinanceMoneyProperties moneyProperties = new FinanceMoneyProperties();
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -73,6 +138,27 @@ class TransactionServiceTest {
         verify(transactionRepository).save(any(Transaction.class));
     }
 
+    @Test
+    void shouldAddTransactionsInChunksAndEvictOncePerAccount() {
+        ingestProperties.setChunkSize(2);
+        LocalDate today = transaction.getCreatedAt().toLocalDate();
+        Transaction second = createTransaction(new BigDecimal("-40.00"));
+        Transaction third = createTransaction(new BigDecimal("25.00"));
+        third.setAccountName("Nazli");
+        when(transactionMapper.toEntity(any(TransactionRequestDTO.class))).thenReturn(transaction, second, third);
+
+        var result = transactionService.addTransactions(List.of(requestDTO, requestDTO, requestDTO));
+
+        assertEquals(3, result.size());
+        verify(transactionRepository).saveAll(List.of(transaction, second));
+        verify(transactionRepository).saveAll(List.of(third));
+        verify(entityManager, times(2)).clear();
+        verify(balanceCheckpointRepository).shiftBalancesFrom("Aylin", today, new BigDecimal("60.00"));
+        verify(balanceCheckpointRepository).shiftBalancesFrom("Nazli", third.getCreatedAt().toLocalDate(), new BigDecimal("25.00"));
+        verify(balanceCacheEvictor, times(1)).evictFrom(eq("Aylin"), any(LocalDate.class));
+        verify(balanceCacheEvictor, times(1)).evictFrom(eq("Nazli"), any(LocalDate.class));
+    }
+
     @Test
     void shouldUpdateTransactionSuccessfully() {
         requestDTO.setAmount(new BigDecimal("150.00"));
@@ -93,43 +179,299 @@ class TransactionServiceTest {
 
     @Test
     void shouldDeleteTransactionSuccessfully() {
-        when(transactionRepository.existsById(1L)).thenReturn(true);
+        when(transactionRepository.findById(1L)).thenReturn(Optional.of(transaction));
 
         transactionService.deleteTransaction(1L);
 
-        verify(transactionRepository).deleteById(1L);
+        verify(transactionRepository).delete(transaction);
     }
 
     @Test
     void shouldCalculateBalanceForAccountOnGivenDate() {
-        when(transactionRepository.findByAccountName(eq("Aylin")))
-                .thenReturn(Collections.singletonList(transaction));
-        when(transactionRepository.calculateBalanceForAccount(eq("Aylin"), any(LocalDate.class)))
+        when(accountNameFilter.mightContain("Aylin")).thenReturn(true);
+        when(transactionRepository.existsByAccountName("Aylin")).thenReturn(true);
+        when(transactionRepository.calculateBalanceForAccount(eq("Aylin"), any(LocalDateTime.class)))
                 .thenReturn(new BigDecimal("300.00"));
 
-        BigDecimal balance = transactionService.calculateBalance("Aylin", LocalDate.now());
+        LocalDate today = LocalDate.now();
+        BigDecimal balance = transactionService.calculateBalance("Aylin", today);
 
         assertEquals(new BigDecimal("300.00"), balance);
-        verify(transactionRepository).calculateBalanceForAccount(eq("Aylin"), any(LocalDate.class));
+        verify(transactionRepository).calculateBalanceForAccount("Aylin", today.plusDays(1).atStartOfDay());
+    }
+
+    @Test
+    void shouldCalculateBalanceFromNearestCheckpoint() {
+        LocalDate date = LocalDate.of(2025, 3, 10);
+        when(accountNameFilter.mightContain("Aylin")).thenReturn(true);
+        when(transactionRepository.existsByAccountName("Aylin")).thenReturn(true);
+        when(balanceCheckpointRepository.findFirstByAccountNameAndCheckpointDateLessThanEqualOrderByCheckpointDateDesc(
+                "Aylin", date))
+                .thenReturn(Optional.of(new BalanceCheckpoint("Aylin", LocalDate.of(2025, 3, 8), new BigDecimal("250.00"))));
+        when(transactionRepository.calculateBalanceChangeForAccount(
+                "Aylin", LocalDate.of(2025, 3, 9).atStartOfDay(), LocalDate.of(2025, 3, 11).atStartOfDay()))
+                .thenReturn(new BigDecimal("50.00"));
+
+        BigDecimal balance = transactionService.calculateBalance("Aylin", date);
+
+        assertEquals(new BigDecimal("300.00"), balance);
+        verify(transactionRepository, never()).calculateBalanceForAccount(any(), any());
+    }
+
+    @Test
+    void shouldBuildBalanceSeriesFromOpeningBalanceAndOneScan() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 20);
+        when(accountNameFilter.mightContain("Aylin")).thenReturn(true);
+        when(transactionRepository.existsByAccountName("Aylin")).thenReturn(true);
+        when(transactionRepository.calculateBalanceForAccount("Aylin", from.atStartOfDay()))
+                .thenReturn(new BigDecimal("100.00"));
+        when(transactionRepository.streamAmountsForAccount(
+                "Aylin", from.atStartOfDay(), LocalDate.of(2025, 1, 16).atStartOfDay()))
+                .thenReturn(Stream.of(
+                        new Object[]{LocalDateTime.of(2025, 1, 1, 9, 0), new BigDecimal("10.00")},
+                        new Object[]{LocalDateTime.of(2025, 1, 3, 9, 0), new BigDecimal("-5.00")},
+                        new Object[]{LocalDateTime.of(2025, 1, 15, 23, 59), new BigDecimal("20.00")}));
+
+        List<BalancePointDTO> series = transactionService.calculateBalanceSeries("Aylin", from, to, BalanceSeriesStep.WEEK);
+
+        assertEquals(List.of(
+                new BalancePointDTO(LocalDate.of(2025, 1, 1), new BigDecimal("110.00")),
+                new BalancePointDTO(LocalDate.of(2025, 1, 8), new BigDecimal("105.00")),
+                new BalancePointDTO(LocalDate.of(2025, 1, 15), new BigDecimal("125.00"))), series);
+        verify(transactionRepository, times(1)).calculateBalanceForAccount(any(), any());
+    }
+
+    @Test
+    void shouldRejectBalanceSeriesWithMorePointsThanAllowed() {
+        searchProperties.setMaxSeriesPoints(3);
+        LocalDate from = LocalDate.of(2025, 1, 1);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                transactionService.calculateBalanceSeries("Aylin", from, LocalDate.of(2025, 1, 22), BalanceSeriesStep.WEEK));
+
+        assertEquals("Balance series cannot have more than 3 points", exception.getMessage());
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    void shouldServeCachedBalancesAndResolveMissesWithOneQuery() {
+        LocalDate date = LocalDate.of(2025, 3, 10);
+        LocalDate later = date.plusDays(5);
+        cacheManager.getCache(BalanceCacheEvictor.BALANCE_CACHE)
+                .put(BalanceCacheEvictor.key("Aylin", date), new BigDecimal("10.00"));
+        when(accountNameFilter.mightContain(any())).thenReturn(true);
+        when(balanceCheckpointRepository.calculateBalancesAsOf(
+                Map.of(date, Set.of("Nazli", "Deniz"), later, Set.of("Nazli"))))
+                .thenReturn(List.of(
+                        new Object[]{"Nazli", date, new BigDecimal("20.00")},
+                        new Object[]{"Deniz", date, new BigDecimal("30.00")},
+                        new Object[]{"Nazli", later, new BigDecimal("25.00")}));
+
+        List<AccountBalanceDTO> balances = transactionService.calculateBalances(List.of(
+                balanceQuery("Aylin", date), balanceQuery("Nazli", date), balanceQuery("Deniz", date),
+                balanceQuery("Nazli", date), balanceQuery("Nazli", later)));
+
+        assertEquals(List.of(
+                new AccountBalanceDTO("Aylin", date, new BigDecimal("10.00")),
+                new AccountBalanceDTO("Nazli", date, new BigDecimal("20.00")),
+                new AccountBalanceDTO("Deniz", date, new BigDecimal("30.00")),
+                new AccountBalanceDTO("Nazli", date, new BigDecimal("20.00")),
+                new AccountBalanceDTO("Nazli", later, new BigDecimal("25.00"))), balances);
+        verify(balanceCheckpointRepository, times(1)).calculateBalancesAsOf(any());
+        assertEquals(new BigDecimal("30.00"), cacheManager.getCache(BalanceCacheEvictor.BALANCE_CACHE)
+                .get(BalanceCacheEvictor.key("Deniz", date), BigDecimal.class));
+    }
+
+    @Test
+    void shouldShiftCheckpointsWhenAddingTransaction() {
+        when(transactionMapper.toEntity(any(TransactionRequestDTO.class))).thenReturn(transaction);
+        when(transactionRepository.save(any(Transaction.class))).thenReturn(transaction);
+        when(balanceCheckpointRepository.existsByAccountNameAndCheckpointDate(
+                "Aylin", transaction.getCreatedAt().toLocalDate())).thenReturn(true);
+
+        transactionService.addTransaction(requestDTO);
+
+        verify(balanceCheckpointRepository).shiftBalancesFrom(
+                "Aylin", transaction.getCreatedAt().toLocalDate(), new BigDecimal("100.00"));
+        verify(balanceCheckpointRepository, never()).insertIfAbsent(any(), any(), any());
+        verify(balanceCacheEvictor).evictFrom("Aylin", transaction.getCreatedAt().toLocalDate());
+    }
+
+    @Test
+    void shouldShiftCheckpointCreatedByAConcurrentFirstWriteOfTheDay() {
+        LocalDate today = transaction.getCreatedAt().toLocalDate();
+        when(transactionMapper.toEntity(any(TransactionRequestDTO.class))).thenReturn(transaction);
+        when(transactionRepository.save(any(Transaction.class))).thenReturn(transaction);
+        when(transactionRepository.calculateBalanceForAccount(eq("Aylin"), any())).thenReturn(new BigDecimal("100.00"));
+        when(balanceCheckpointRepository.insertIfAbsent("Aylin", today, new BigDecimal("100.00"))).thenReturn(false);
+
+        transactionService.addTransaction(requestDTO);
+
+        InOrder inOrder = inOrder(balanceCheckpointRepository);
+        inOrder.verify(balanceCheckpointRepository).shiftBalancesFrom("Aylin", today, new BigDecimal("100.00"));
+        inOrder.verify(balanceCheckpointRepository).insertIfAbsent("Aylin", today, new BigDecimal("100.00"));
+        inOrder.verify(balanceCheckpointRepository).shiftBalanceOn("Aylin", today, new BigDecimal("100.00"));
+    }
+
+    @Test
+    void shouldEvictCachedBalancesOfBothAccountsWhenAccountChanges() {
+        LocalDate postingDate = transaction.getCreatedAt().toLocalDate();
+        requestDTO.setAccountName("Nazli");
+
+        when(transactionRepository.findById(1L)).thenReturn(Optional.of(transaction));
+        when(transactionRepository.save(any(Transaction.class))).thenReturn(transaction);
+
+        transactionService.updateTransaction(1L, requestDTO);
+
+        verify(balanceCheckpointRepository).shiftBalancesFrom("Aylin", postingDate, new BigDecimal("-100.00"));
+        verify(balanceCheckpointRepository).shiftBalancesFrom("Nazli", postingDate, new BigDecimal("100.00"));
+        verify(balanceCacheEvictor).evictFrom("Aylin", postingDate);
+        verify(balanceCacheEvictor).evictFrom("Nazli", postingDate);
+    }
+
+    @Test
+    void shouldMoveRollupsWhenCategoryChanges() {
+        LocalDate postingDate = transaction.getCreatedAt().toLocalDate();
+        LocalDate monthStart = postingDate.withDayOfMonth(1);
+        requestDTO.setCategory("Groceries");
+        requestDTO.setAmount(new BigDecimal("80.00"));
+
+        when(transactionRepository.findById(1L)).thenReturn(Optional.of(transaction));
+        when(transactionRepository.save(any(Transaction.class))).thenReturn(transaction);
+
+        transactionService.updateTransaction(1L, requestDTO);
+
+        verify(transactionRollupRepository).applyDeltas(List.of(
+                new RollupChange("Aylin", "Food", RollupPeriod.DAY, postingDate, new BigDecimal("-100.00"), -1),
+                new RollupChange("Aylin", "Food", RollupPeriod.MONTH, monthStart, new BigDecimal("-100.00"), -1),
+                new RollupChange("Aylin", "Groceries", RollupPeriod.DAY, postingDate, new BigDecimal("80.00"), 1),
+                new RollupChange("Aylin", "Groceries", RollupPeriod.MONTH, monthStart, new BigDecimal("80.00"), 1)));
+        verify(transactionRollupRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldServeTopCategoriesFromColumnStore() {
+        LocalDate from = LocalDate.of(2025, 3, 1);
+        LocalDate to = LocalDate.of(2025, 3, 31);
+        Map<String, BigDecimal> top = new LinkedHashMap<>();
+        top.put("Rent", new BigDecimal("-900.00"));
+        top.put(null, new BigDecimal("-40.00"));
+        when(accountNameFilter.mightContain("Aylin")).thenReturn(true);
+        when(transactionRepository.existsByAccountName("Aylin")).thenReturn(true);
+        when(analyticsEngine.topCategories("Aylin", from, to, 2)).thenReturn(Optional.of(top));
+
+        List<CategoryTotalDTO> totals = transactionService.calculateCategoryTotals("Aylin", from, to, 2);
+
+        assertEquals(List.of(new CategoryTotalDTO("Rent", new BigDecimal("-900.00")),
+                new CategoryTotalDTO(null, new BigDecimal("-40.00"))), totals);
+        verifyNoInteractions(transactionRollupRepository);
+    }
+
+    @Test
+    void shouldRankCategoriesFromRollupsWhenColumnStoreIsUnavailable() {
+        LocalDate from = LocalDate.of(2025, 3, 1);
+        LocalDate to = LocalDate.of(2025, 3, 31);
+        when(accountNameFilter.mightContain("Aylin")).thenReturn(true);
+        when(transactionRepository.existsByAccountName("Aylin")).thenReturn(true);
+        when(analyticsEngine.topCategories("Aylin", from, to, 2)).thenReturn(Optional.empty());
+        when(transactionRollupRepository.summarizeByCategoryForAccount("Aylin", RollupPeriod.DAY, from, to))
+                .thenReturn(List.of(
+                        new RollupSummary("Food", LocalDate.of(2025, 3, 2), new BigDecimal("-40.00"), 2),
+                        new RollupSummary("Income", LocalDate.of(2025, 3, 5), new BigDecimal("1000.00"), 1),
+                        new RollupSummary("Food", LocalDate.of(2025, 3, 9), new BigDecimal("-25.00"), 1),
+                        new RollupSummary("Rent", LocalDate.of(2025, 3, 1), new BigDecimal("-900.00"), 1)));
+
+        List<CategoryTotalDTO> totals = transactionService.calculateCategoryTotals("Aylin", from, to, 2);
+
+        assertEquals(List.of(new CategoryTotalDTO("Income", new BigDecimal("1000.00")),
+                new CategoryTotalDTO("Rent", new BigDecimal("-900.00"))), totals);
+    }
+
+    @Test
+    void shouldFoldMonthRollupsIntoYears() {
+        LocalDate from = LocalDate.of(2025, 3, 15);
+        LocalDate to = LocalDate.of(2026, 2, 28);
+        when(transactionRollupRepository.summarizeByCategory(RollupPeriod.MONTH, LocalDate.of(2025, 1, 1), to))
+                .thenReturn(List.of(
+                        new RollupSummary("Rent", LocalDate.of(2025, 3, 1), new BigDecimal("-900.00"), 1),
+                        new RollupSummary("Food", LocalDate.of(2025, 4, 1), new BigDecimal("-40.00"), 2),
+                        new RollupSummary("Rent", LocalDate.of(2025, 4, 1), new BigDecimal("-900.00"), 1),
+                        new RollupSummary("Food", LocalDate.of(2026, 1, 1), new BigDecimal("-15.00"), 1)));
+
+        List<TransactionSummaryDTO> summary = transactionService.summarizeTransactions(
+                SummaryGroupBy.CATEGORY, RollupPeriod.YEAR, from, to, null);
+
+        assertEquals(3, summary.size());
+        assertEquals("Food", summary.get(0).getGroup());
+        assertEquals(LocalDate.of(2025, 1, 1), summary.get(0).getPeriodStart());
+        assertEquals("Rent", summary.get(1).getGroup());
+        assertEquals(new BigDecimal("-1800.00"), summary.get(1).getTotal());
+        assertEquals(2, summary.get(1).getCount());
+        assertEquals(LocalDate.of(2026, 1, 1), summary.get(2).getPeriodStart());
+    }
+
+    @Test
+    void shouldRouteSingleAccountTotalsToColumnarEngine() {
+        TransactionSearchCriteriaDTO criteria = new TransactionSearchCriteriaDTO();
+        criteria.setAccountName("Aylin");
+        criteria.setCategory("Food");
+        when(customTransactionRepository.findTransactionsByCriteria(
+                eq("Aylin"), eq(null), eq(null), eq(null), eq(null), eq("Food"), eq(null), any(PageRequest.class))
+        ).thenReturn(new SliceImpl<>(List.of(transaction)));
+        when(analyticsEngine.totals("Aylin", null, null, null, null, "Food"))
+                .thenReturn(Optional.of(new TransactionTotals(1, new BigDecimal("100.00"))));
+
+        var result = transactionService.searchTransactions(criteria, 0, 10, "createdAt", "desc", null, TotalsMode.EXACT);
+
+        assertEquals(1, result.getTotalRecords());
+        assertEquals(new BigDecimal("100.00"), result.getTotalBalance());
+        verify(customTransactionRepository, never()).calculateTotalsByCriteria(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldKeepDescriptionSearchTotalsInSql() {
+        TransactionSearchCriteriaDTO criteria = new TransactionSearchCriteriaDTO();
+        criteria.setAccountName("Aylin");
+        criteria.setDescription("Lunch");
+        when(customTransactionRepository.findTransactionsByCriteria(
+                eq("Aylin"), eq(null), eq(null), eq(null), eq(null), eq(null), eq("Lunch"), any(PageRequest.class))
+        ).thenReturn(new SliceImpl<>(List.of(transaction)));
+        when(customTransactionRepository.calculateTotalsByCriteria("Aylin", null, null, null, null, null, "Lunch"))
+                .thenReturn(new TransactionTotals(1, new BigDecimal("100.00")));
+
+        transactionService.searchTransactions(criteria, 0, 10, "createdAt", "desc", null, TotalsMode.EXACT);
+
+        verifyNoInteractions(analyticsEngine);
+    }
+
+    @Test
+    void shouldServeBalanceFromColumnarEngineWhenItHoldsTheAccount() {
+        LocalDate today = LocalDate.now();
+        when(accountNameFilter.mightContain("Aylin")).thenReturn(true);
+        when(transactionRepository.existsByAccountName("Aylin")).thenReturn(true);
+        when(analyticsEngine.balanceAsOf("Aylin", today)).thenReturn(Optional.of(new BigDecimal("42.00")));
+
+        assertEquals(new BigDecimal("42.00"), transactionService.calculateBalance("Aylin", today));
+        verify(transactionRepository, never()).calculateBalanceForAccount(any(), any());
     }
 
     @Test
     void shouldReturnAllTransactionsWhenNoCriteriaProvided() {
         List<Transaction> allTransactions = Arrays.asList(transaction, createTransaction(new BigDecimal("200.00")));
-        Page<Transaction> page = new PageImpl<>(allTransactions);
 
         when(customTransactionRepository.findTransactionsByCriteria(
                 eq(null), eq(null), eq(null), eq(null), eq(null), eq(null), eq(null), any(PageRequest.class))
-        ).thenReturn(page);
+        ).thenReturn(new SliceImpl<>(allTransactions));
 
-        when(customTransactionRepository.calculateTotalBalanceByCriteria(
+        when(customTransactionRepository.calculateTotalsByCriteria(
                 eq(null), eq(null), eq(null), eq(null), eq(null), eq(null), eq(null))
-        ).thenReturn(new BigDecimal("250.00"));
+        ).thenReturn(new TransactionTotals(2, new BigDecimal("250.00")));
 
         TransactionSearchCriteriaDTO emptyCriteria = new TransactionSearchCriteriaDTO();
 
         var result = transactionService.searchTransactions(
-                emptyCriteria, 0, 10, "createdAt", "desc"
+                emptyCriteria, 0, 10, "createdAt", "desc", null, TotalsMode.EXACT
         );
 
         assertNotNull(result);
@@ -139,22 +481,109 @@ class TransactionServiceTest {
     }
 
     @Test
-    void shouldReturnEmptyWhenNoTransactionsMatchCriteria() {
-        Page<Transaction> emptyPage = new PageImpl<>(Collections.emptyList());
+    void shouldRunOnePageQueryAndOneAggregateQueryPerSearch() {
+        when(customTransactionRepository.findTransactionsByCriteria(
+                eq("Aylin"), any(), any(), any(), any(), eq("Food"), any(), any(PageRequest.class))
+        ).thenReturn(new SliceImpl<>(Collections.singletonList(transaction), PageRequest.of(0, 1), true));
+        when(customTransactionRepository.calculateTotalsByCriteria(
+                eq("Aylin"), any(), any(), any(), any(), eq("Food"), any())
+        ).thenReturn(new TransactionTotals(11, new BigDecimal("1100.00")));
+
+        TransactionSearchCriteriaDTO criteria = new TransactionSearchCriteriaDTO();
+        criteria.setAccountName("Aylin");
+        criteria.setCategory("Food");
+
+        var result = transactionService.searchTransactions(
+                criteria, 0, 1, "createdAt", "desc", null, TotalsMode.EXACT
+        );
+
+        assertEquals(11, result.getTotalRecords());
+        assertEquals(new BigDecimal("1100.00"), result.getTotalBalance());
+        assertNotNull(result.getNextCursor());
+        verify(customTransactionRepository).findTransactionsByCriteria(
+                eq("Aylin"), any(), any(), any(), any(), eq("Food"), any(), any(PageRequest.class));
+        verify(customTransactionRepository).calculateTotalsByCriteria(
+                eq("Aylin"), any(), any(), any(), any(), eq("Food"), any());
+        verifyNoMoreInteractions(customTransactionRepository);
+    }
+
+    @Test
+    void shouldSkipAggregatesWhenTotalsAreNotRequested() {
+        when(customTransactionRepository.findTransactionsByCriteria(
+                eq("Aylin"), any(), any(), any(), any(), any(), any(), any(PageRequest.class))
+        ).thenReturn(new SliceImpl<>(Collections.singletonList(transaction), PageRequest.of(0, 1), true));
+
+        TransactionSearchCriteriaDTO criteria = new TransactionSearchCriteriaDTO();
+        criteria.setAccountName("Aylin");
+
+        var result = transactionService.searchTransactions(
+                criteria, 0, 1, "createdAt", "desc", null, TotalsMode.NONE
+        );
+
+        assertTrue(result.isHasNext());
+        assertNull(result.getTotalRecords());
+        assertNull(result.getTotalBalance());
+        verify(customTransactionRepository, never()).calculateTotalsByCriteria(any(), any(), any(), any(), any(), any(), any());
+        verify(customTransactionRepository, never()).estimateCountByCriteria(any(), any(), any(), any(), any(), any(), any(), anyInt());
+        assertEquals(1, meterRegistry.get("finance.search.rows").summary().count());
+        assertEquals(1.0, meterRegistry.get("finance.search.rows").summary().totalAmount());
+    }
 
+    @Test
+    void shouldCapAccountPageSizeAtConfiguredMaximum() {
+        searchProperties.setMaxPageSize(100);
+        PageRequest expected = PageRequest.of(3, 100, Sort.by("createdAt").ascending());
+        when(customTransactionRepository.findTransactionsByCriteria(
+                "Aylin", null, null, null, null, null, null, expected)
+        ).thenReturn(new SliceImpl<>(Collections.singletonList(transaction), expected, true));
+        TransactionResponseDTO responseDTO = new TransactionResponseDTO();
+        when(transactionMapper.toDTO(transaction)).thenReturn(responseDTO);
+
+        Slice<TransactionResponseDTO> result = transactionService.getTransactionsByAccount("Aylin", null, null, 3, 10_000);
+
+        assertEquals(100, result.getSize());
+        assertTrue(result.hasNext());
+        assertEquals(List.of(responseDTO), result.getContent());
+    }
+
+    @Test
+    void shouldReturnEstimatedCountWhenTotalsAreEstimated() {
+        searchProperties.setEstimatedCountLimit(500);
+        when(customTransactionRepository.findTransactionsByCriteria(
+                eq("Aylin"), any(), any(), any(), any(), any(), any(), any(PageRequest.class))
+        ).thenReturn(new SliceImpl<>(Collections.singletonList(transaction), PageRequest.of(0, 1), true));
+        when(customTransactionRepository.estimateCountByCriteria(
+                eq("Aylin"), any(), any(), any(), any(), any(), any(), eq(500))
+        ).thenReturn(1_800L);
+
+        TransactionSearchCriteriaDTO criteria = new TransactionSearchCriteriaDTO();
+        criteria.setAccountName("Aylin");
+
+        var result = transactionService.searchTransactions(
+                criteria, 0, 1, "createdAt", "desc", null, TotalsMode.ESTIMATED
+        );
+
+        assertEquals(1_800L, result.getTotalRecords());
+        assertTrue(result.getTotalsEstimated());
+        assertNull(result.getTotalBalance());
+        verify(customTransactionRepository, never()).calculateTotalsByCriteria(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldReturnEmptyWhenNoTransactionsMatchCriteria() {
         when(customTransactionRepository.findTransactionsByCriteria(
                 eq("Alien"), any(), any(), any(), any(), any(), any(), any(PageRequest.class))
-        ).thenReturn(emptyPage);
+        ).thenReturn(new SliceImpl<>(Collections.emptyList()));
 
-        when(customTransactionRepository.calculateTotalBalanceByCriteria(
+        when(customTransactionRepository.calculateTotalsByCriteria(
                 eq("Alien"), any(), any(), any(), any(), any(), any())
-        ).thenReturn(BigDecimal.ZERO);
+        ).thenReturn(new TransactionTotals(0, BigDecimal.ZERO));
 
         TransactionSearchCriteriaDTO criteria = new TransactionSearchCriteriaDTO();
         criteria.setAccountName("Alien");
 
         var result = transactionService.searchTransactions(
-                criteria, 0, 10, "createdAt", "desc"
+                criteria, 0, 10, "createdAt", "desc", null, TotalsMode.EXACT
         );
 
         assertNotNull(result);
@@ -165,24 +594,22 @@ class TransactionServiceTest {
 
     @Test
     void shouldSearchTransactionsWhenOnlyFromDateIsProvided() {
-        Page<Transaction> page = new PageImpl<>(Arrays.asList(transaction, createTransaction(new BigDecimal("200.00"))));
-
         when(customTransactionRepository.findTransactionsByCriteria(
                 eq("Aylin"), eq(null), eq(null),
                 eq(LocalDate.of(2025, 3, 1)), eq(null), eq(null), eq(null), any(PageRequest.class))
-        ).thenReturn(page);
+        ).thenReturn(new SliceImpl<>(Arrays.asList(transaction, createTransaction(new BigDecimal("200.00")))));
 
-        when(customTransactionRepository.calculateTotalBalanceByCriteria(
+        when(customTransactionRepository.calculateTotalsByCriteria(
                 eq("Aylin"), eq(null), eq(null),
                 eq(LocalDate.of(2025, 3, 1)), eq(null), eq(null), eq(null))
-        ).thenReturn(new BigDecimal("300.00"));
+        ).thenReturn(new TransactionTotals(2, new BigDecimal("300.00")));
 
         TransactionSearchCriteriaDTO criteria = new TransactionSearchCriteriaDTO();
         criteria.setAccountName("Aylin");
         criteria.setFromDate(LocalDate.of(2025, 3, 1));
 
         var result = transactionService.searchTransactions(
-                criteria, 0, 10, "createdAt", "asc"
+                criteria, 0, 10, "createdAt", "asc", null, TotalsMode.EXACT
         );
 
         assertNotNull(result);
@@ -192,24 +619,22 @@ class TransactionServiceTest {
 
     @Test
     void shouldSearchTransactionsWhenOnlyToDateIsProvided() {
-        Page<Transaction> page = new PageImpl<>(Collections.singletonList(transaction));
-
         when(customTransactionRepository.findTransactionsByCriteria(
                 eq("Aylin"), eq(null), eq(null),
                 eq(null), eq(LocalDate.of(2025, 3, 2)), eq(null), eq(null), any(PageRequest.class))
-        ).thenReturn(page);
+        ).thenReturn(new SliceImpl<>(Collections.singletonList(transaction)));
 
-        when(customTransactionRepository.calculateTotalBalanceByCriteria(
+        when(customTransactionRepository.calculateTotalsByCriteria(
                 eq("Aylin"), eq(null), eq(null),
                 eq(null), eq(LocalDate.of(2025, 3, 2)), eq(null), eq(null))
-        ).thenReturn(new BigDecimal("100.00"));
+        ).thenReturn(new TransactionTotals(1, new BigDecimal("100.00")));
 
         TransactionSearchCriteriaDTO criteria = new TransactionSearchCriteriaDTO();
         criteria.setAccountName("Aylin");
         criteria.setToDate(LocalDate.of(2025, 3, 2));
 
         var result = transactionService.searchTransactions(
-                criteria, 0, 10, "createdAt", "asc"
+                criteria, 0, 10, "createdAt", "asc", null, TotalsMode.EXACT
         );
 
         assertNotNull(result);
@@ -217,6 +642,13 @@ class TransactionServiceTest {
         assertEquals(100.00, result.getTotalBalance().doubleValue(), 0.001);
     }
 
+    private BalanceQueryDTO balanceQuery(String accountName, LocalDate date) {
+        BalanceQueryDTO query = new BalanceQueryDTO();
+        query.setAccountName(accountName);
+        query.setDate(date);
+        return query;
+    }
+
     private Transaction createTransaction(BigDecimal amount) {
         Transaction t = new Transaction();
         t.setAmount(amount);
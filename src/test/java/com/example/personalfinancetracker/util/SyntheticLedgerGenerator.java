@@ -0,0 +1,142 @@
+package com.example.personalfinancetracker.util;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Deterministic source of ledger rows with roughly realistic shape: account sizes follow a Zipf distribution, so a
+ * few accounts hold most rows; categories are weighted, with incomes positive and everything else negative;
+ * amounts are log-normal around a per-category median; timestamps are uniform over whole years. The same seed
+ * always yields the same rows. One row in {@value #DESCRIBED_EVERY} carries a description, which keeps the
+ * in-memory description index small enough for million-row ledgers.
+ */
+public class SyntheticLedgerGenerator {
+
+    public static final int DESCRIBED_EVERY = 50;
+
+    private static final double ACCOUNT_SKEW = 1.1;
+    private static final double AMOUNT_SPREAD = 0.8;
+    private static final int MERCHANTS = 500;
+
+    private record CategorySpec(String name, int weight, long medianCents, boolean income) {
+    }
+
+    private static final List<CategorySpec> CATEGORY_SPECS = List.of(
+            new CategorySpec("Salary", 3, 320_000, true),
+            new CategorySpec("Refund", 2, 3_500, true),
+            new CategorySpec("Interest", 1, 1_200, true),
+            new CategorySpec("Groceries", 18, 4_500, false),
+            new CategorySpec("Restaurants", 9, 3_200, false),
+            new CategorySpec("Coffee", 8, 450, false),
+            new CategorySpec("Rent", 2, 120_000, false),
+            new CategorySpec("Mortgage", 1, 150_000, false),
+            new CategorySpec("Utilities", 2, 9_000, false),
+            new CategorySpec("Electricity", 2, 7_500, false),
+            new CategorySpec("Internet", 1, 4_000, false),
+            new CategorySpec("Mobile", 1, 2_500, false),
+            new CategorySpec("Insurance", 1, 11_000, false),
+            new CategorySpec("Fuel", 5, 6_000, false),
+            new CategorySpec("Public Transport", 6, 300, false),
+            new CategorySpec("Taxi", 2, 1_800, false),
+            new CategorySpec("Parking", 2, 500, false),
+            new CategorySpec("Car Maintenance", 1, 25_000, false),
+            new CategorySpec("Healthcare", 1, 8_000, false),
+            new CategorySpec("Pharmacy", 2, 1_500, false),
+            new CategorySpec("Fitness", 1, 4_000, false),
+            new CategorySpec("Entertainment", 3, 2_500, false),
+            new CategorySpec("Streaming", 2, 1_300, false),
+            new CategorySpec("Books", 1, 1_800, false),
+            new CategorySpec("Clothing", 3, 6_000, false),
+            new CategorySpec("Electronics", 1, 20_000, false),
+            new CategorySpec("Home", 2, 5_000, false),
+            new CategorySpec("Travel", 1, 60_000, false),
+            new CategorySpec("Gifts", 1, 4_000, false),
+            new CategorySpec("Education", 1, 15_000, false));
+
+    public static final List<String> CATEGORIES = CATEGORY_SPECS.stream().map(CategorySpec::name).toList();
+
+    public record LedgerRow(int account, int category, BigDecimal amount, LocalDateTime createdAt,
+                            String description) {
+    }
+
+    private final SplittableRandom random;
+    private final int accounts;
+    private final LocalDate start;
+    private final int days;
+    private final double[] accountCdf;
+    private final double[] categoryCdf;
+    private long generated;
+
+    /**
+     * Rows fall between the start of {@code start} and the end of the day before {@code start.plusYears(years)}.
+     */
+    public SyntheticLedgerGenerator(long seed, int accounts, LocalDate start, int years) {
+        this.random = new SplittableRandom(seed);
+        this.accounts = accounts;
+        this.start = start;
+        this.days = (int) ChronoUnit.DAYS.between(start, start.plusYears(years));
+        this.accountCdf = cdf(accounts, rank -> Math.pow(rank + 1, -ACCOUNT_SKEW));
+        this.categoryCdf = cdf(CATEGORY_SPECS.size(), index -> CATEGORY_SPECS.get(index).weight());
+    }
+
+    /**
+     * Accounts are ranked by expected size: {@code account-0} is the largest.
+     */
+    public static String accountName(int index) {
+        return "account-" + index;
+    }
+
+    public int accounts() {
+        return accounts;
+    }
+
+    public LocalDate start() {
+        return start;
+    }
+
+    /**
+     * First day after the generated range.
+     */
+    public LocalDate end() {
+        return start.plusDays(days);
+    }
+
+    public LedgerRow next() {
+        int account = sample(accountCdf);
+        int category = sample(categoryCdf);
+        CategorySpec spec = CATEGORY_SPECS.get(category);
+        long cents = Math.max(1, Math.round(spec.medianCents() * Math.exp(AMOUNT_SPREAD * random.nextGaussian())));
+        BigDecimal amount = BigDecimal.valueOf(spec.income() ? cents : -cents, 2);
+        LocalDateTime createdAt = start.plusDays(random.nextInt(days)).atStartOfDay()
+                .plusSeconds(random.nextInt(24 * 60 * 60));
+        String description = generated++ % DESCRIBED_EVERY == 0
+                ? spec.name().toLowerCase(Locale.ROOT) + " at merchant-" + random.nextInt(MERCHANTS)
+                : null;
+        return new LedgerRow(account, category, amount, createdAt, description);
+    }
+
+    private int sample(double[] cdf) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cdf.length - 1);
+    }
+
+    private static double[] cdf(int size, IntToDoubleFunction weight) {
+        double[] cdf = new double[size];
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += weight.applyAsDouble(i);
+            cdf[i] = total;
+        }
+        for (int i = 0; i < size; i++) {
+            cdf[i] /= total;
+        }
+        return cdf;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.personalfinancetracker.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticLedgerGeneratorTest {
+
+    private static final LocalDate START = LocalDate.of(2021, 1, 1);
+
+    @Test
+    void shouldGenerateTheSameRowsForTheSameSeed() {
+        SyntheticLedgerGenerator first = new SyntheticLedgerGenerator(7, 100, START, 3);
+        SyntheticLedgerGenerator second = new SyntheticLedgerGenerator(7, 100, START, 3);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(first.next(), second.next());
+        }
+    }
+
+    @Test
+    void shouldSkewAccountsAndSpreadRowsOverYearsAndCategories() {
+        SyntheticLedgerGenerator generator = new SyntheticLedgerGenerator(42, 1_000, START, 3);
+        int[] perAccount = new int[1_000];
+        Set<Integer> categories = new HashSet<>();
+        Set<Integer> years = new HashSet<>();
+        int described = 0;
+        int rows = 100_000;
+
+        for (int i = 0; i < rows; i++) {
+            SyntheticLedgerGenerator.LedgerRow row = generator.next();
+            perAccount[row.account()]++;
+            categories.add(row.category());
+            years.add(row.createdAt().getYear());
+            assertFalse(row.createdAt().toLocalDate().isBefore(START));
+            assertTrue(row.createdAt().toLocalDate().isBefore(generator.end()));
+            assertNotEquals(0, row.amount().signum());
+            if (row.description() != null) {
+                described++;
+            }
+        }
+
+        assertTrue(perAccount[0] > rows / 10, "largest account holds " + perAccount[0]);
+        assertTrue(perAccount[0] > 50 * perAccount[999], "smallest account holds " + perAccount[999]);
+        assertEquals(30, categories.size());
+        assertEquals(Set.of(2021, 2022, 2023), years);
+        assertEquals(rows / SyntheticLedgerGenerator.DESCRIBED_EVERY, described);
+    }
+}
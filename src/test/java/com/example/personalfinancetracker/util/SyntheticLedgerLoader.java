@@ -0,0 +1,110 @@
+package com.example.personalfinancetracker.util;
+
+import com.example.personalfinancetracker.cache.AccountNameFilter;
+import com.example.personalfinancetracker.cache.DescriptionTrigramIndex;
+import com.example.personalfinancetracker.cache.NameDictionary;
+import com.example.personalfinancetracker.domain.Transaction;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads a {@link SyntheticLedgerGenerator} ledger into an empty database without going through the service:
+ * transactions are written with JDBC batches while the secondary indexes are dropped, and the daily balance
+ * checkpoints and day and month rollups the write paths would have kept are derived afterwards with set-based SQL.
+ * The in-memory name dictionary, account filter and description index are reloaded at the end.
+ */
+public final class SyntheticLedgerLoader {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    /**
+     * The secondary indexes declared on {@code Transaction}. They are dropped while loading and built once
+     * afterwards, since maintaining them row by row rewrites most index pages on every batch.
+     */
+    private static final Index[] TRANSACTION_INDEXES = Transaction.class.getAnnotation(Table.class).indexes();
+
+    private SyntheticLedgerLoader() {
+    }
+
+    public static void load(ApplicationContext context, SyntheticLedgerGenerator generator, int rows) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<String> accountNames = new ArrayList<>(generator.accounts());
+        for (int account = 0; account < generator.accounts(); account++) {
+            accountNames.add(SyntheticLedgerGenerator.accountName(account));
+        }
+        int[] accountIds = insertNames(jdbcTemplate, "account", accountNames);
+        int[] categoryIds = insertNames(jdbcTemplate, "category", SyntheticLedgerGenerator.CATEGORIES);
+
+        for (Index index : TRANSACTION_INDEXES) {
+            jdbcTemplate.execute("DROP INDEX " + index.name());
+        }
+        List<SyntheticLedgerGenerator.LedgerRow> batch = new ArrayList<>(BATCH_SIZE);
+        long[] nextId = {1};
+        for (int row = 0; row < rows; row++) {
+            batch.add(generator.next());
+            if (batch.size() == BATCH_SIZE || row == rows - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO transaction "
+                                + "(id, account_id, category_id, amount, created_at, description, version) "
+                                + "VALUES (?, ?, ?, ?, ?, ?, 0)",
+                        batch, batch.size(), (statement, ledgerRow) -> {
+                            statement.setLong(1, nextId[0]++);
+                            statement.setInt(2, accountIds[ledgerRow.account()]);
+                            statement.setInt(3, categoryIds[ledgerRow.category()]);
+                            statement.setBigDecimal(4, ledgerRow.amount());
+                            statement.setTimestamp(5, Timestamp.valueOf(ledgerRow.createdAt()));
+                            statement.setString(6, ledgerRow.description());
+                        });
+                batch.clear();
+            }
+        }
+        for (Index index : TRANSACTION_INDEXES) {
+            jdbcTemplate.execute("CREATE INDEX " + index.name() + " ON transaction (" + index.columnList() + ")");
+        }
+        // Hibernate's pooled optimizer hands out the increment ids up to the sequence value, so the first value
+        // it reads has to be a full increment past the loaded ids.
+        Long increment = jdbcTemplate.queryForObject("SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES "
+                + "WHERE SEQUENCE_NAME = 'TRANSACTION_SEQ'", Long.class);
+        jdbcTemplate.execute("ALTER SEQUENCE transaction_seq RESTART WITH " + (rows + increment));
+
+        jdbcTemplate.update("INSERT INTO balance_checkpoint (account_name, checkpoint_date, balance) "
+                + "SELECT a.name, d.posted, SUM(d.total) OVER (PARTITION BY d.account_id ORDER BY d.posted) "
+                + "FROM (SELECT account_id, CAST(created_at AS DATE) AS posted, SUM(amount) AS total "
+                + "FROM transaction GROUP BY account_id, CAST(created_at AS DATE)) d "
+                + "JOIN account a ON a.id = d.account_id");
+        insertRollups(jdbcTemplate, "DAY", "CAST(t.created_at AS DATE)");
+        insertRollups(jdbcTemplate, "MONTH", "CAST(DATE_TRUNC('MONTH', t.created_at) AS DATE)");
+
+        context.getBean(NameDictionary.class).load();
+        context.getBean(AccountNameFilter.class).load();
+        context.getBean(DescriptionTrigramIndex.class).load();
+    }
+
+    /**
+     * Inserts {@code names} into a dictionary table and returns their ids in the same order.
+     */
+    private static int[] insertNames(JdbcTemplate jdbcTemplate, String table, List<String> names) {
+        jdbcTemplate.batchUpdate("INSERT INTO " + table + " (name) VALUES (?)", names, BATCH_SIZE,
+                (statement, name) -> statement.setString(1, name));
+        Map<String, Integer> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM " + table,
+                (RowCallbackHandler) resultSet -> ids.put(resultSet.getString(2), resultSet.getInt(1)));
+        return names.stream().mapToInt(ids::get).toArray();
+    }
+
+    private static void insertRollups(JdbcTemplate jdbcTemplate, String period, String periodStart) {
+        jdbcTemplate.update("INSERT INTO transaction_rollup "
+                + "(account_name, category, period_type, period_start, total, transaction_count) "
+                + "SELECT a.name, c.name, '" + period + "', " + periodStart + ", SUM(t.amount), COUNT(*) "
+                + "FROM transaction t JOIN account a ON a.id = t.account_id JOIN category c ON c.id = t.category_id "
+                + "GROUP BY a.name, c.name, " + periodStart);
+    }
+}